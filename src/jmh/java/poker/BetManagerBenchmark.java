@@ -0,0 +1,75 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * One betting round before the flop. The robots are seated once, before every round they get their markers back and
+ * new private hands, so only the betting is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BetManagerBenchmark {
+
+  private static final int BLIND = 50;
+
+  @Param({"2", "4", "6", "8", "10"})
+  int numberOfRobots;
+
+  private Dealer dealer;
+  private List<Player> players;
+  private PotHandler potHandler;
+  private BetManager betManager;
+
+  @Setup
+  public void setUp() {
+    dealer = new Dealer(new SplittableRandomSource(4711));
+    players = new ArrayList<>(numberOfRobots);
+    for (int i = 0; i < numberOfRobots; i++) {
+      players.add(dealer.registerPlayer(new RobotPlayer("Robot " + i, PokerGame.TOTAL_MARKERS_PER_PLAYER)));
+    }
+    potHandler = new PotHandler();
+  }
+
+  /*
+   * Puts the table back as it is before the flop, like PokerGame does between two rounds
+   */
+  @Setup(Level.Invocation)
+  public void setUpRound() {
+    dealer.putCardsBackIntoDeck();
+    for (Player player : players) {
+      player.action = Action.NOT_DECIDED;
+      player.previousAction = Action.NOT_DECIDED;
+      player.addMarkers(PokerGame.TOTAL_MARKERS_PER_PLAYER - player.getNumberOfMarkers());
+    }
+    potHandler.clear();
+    dealer.playPrivateHands();
+    players.get(0).setLittleBlind(BLIND);
+    players.get(1).setBigBlind(BLIND);
+    betManager = new BetManager(players, BLIND, potHandler, GameListener.SILENT);
+  }
+
+  @Benchmark
+  public BetManager bet() {
+    betManager.bet();
+    return betManager;
+  }
+}
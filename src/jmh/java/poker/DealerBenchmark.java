@@ -0,0 +1,73 @@
+package poker;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DealerBenchmark {
+
+  private static final int NUMBER_OF_PLAYERS = 6;
+  private static final int CARDS_PER_DEAL = 2;
+
+  @State(Scope.Thread)
+  public static class EmptyTable {
+    Dealer dealer;
+    int numberOfDeals;
+
+    @Setup
+    public void setUp() {
+      dealer = new Dealer(new SplittableRandomSource(4711));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class FullTable {
+    Dealer dealer;
+
+    @Setup
+    public void setUp() {
+      dealer = new Dealer(new SplittableRandomSource(4711));
+      for (int i = 0; i < NUMBER_OF_PLAYERS; i++) {
+        dealer.registerPlayer(new RobotPlayer("Robot " + i, PokerGame.TOTAL_MARKERS_PER_PLAYER));
+      }
+    }
+  }
+
+  /*
+   * Deals two cards, the deck is reset once in a while so it never runs out of cards
+   */
+  @Benchmark
+  public List<Card> dealRandomCard(EmptyTable table) {
+    if (++table.numberOfDeals * CARDS_PER_DEAL > 40) {
+      table.numberOfDeals = 1;
+      table.dealer.clearGameForTests();
+    }
+    return table.dealer.dealRandomCard(CARDS_PER_DEAL);
+  }
+
+  /*
+   * Private hands, flop, turn and river for six robots, every player's hand is evaluated after each draw
+   */
+  @Benchmark
+  public long play(FullTable table) {
+    table.dealer.play();
+    final long commonCards = table.dealer.getCommonCards();
+    table.dealer.putCardsBackIntoDeck();
+    return commonCards;
+  }
+}
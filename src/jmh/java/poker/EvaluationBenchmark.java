@@ -0,0 +1,63 @@
+package poker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Evaluation of random hands with 2 (private hand), 5 (flop), 6 (turn) and 7 (river) cards
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluationBenchmark {
+
+  private static final int NUMBER_OF_HANDS = 1024;
+
+  @Param({"2", "5", "6", "7"})
+  int numberOfCards;
+
+  private final List<?>[] hands = new List<?>[NUMBER_OF_HANDS];
+  private final long[] cardSets = new long[NUMBER_OF_HANDS];
+  private int hand;
+
+  @Setup
+  public void setUp() {
+    final Deck deck = new Deck(new Shuffle(new SplittableRandomSource(4711)));
+    for (int i = 0; i < NUMBER_OF_HANDS; i++) {
+      long cards = CardSet.NO_CARDS;
+      for (int j = 0; j < numberOfCards; j++) {
+        cards |= CardSet.getBit(deck.dealCard());
+      }
+      cardSets[i] = cards;
+      hands[i] = CardSet.toList(cards);
+      deck.reset();
+    }
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Map<Card, PokerResult> evaluateHand() {
+    return EvaluationHandler.evaluateHand("benchmark", (List<Card>) hands[hand++ & NUMBER_OF_HANDS - 1]);
+  }
+
+  @Benchmark
+  public int evaluateCardSet() {
+    return HandEvaluator.evaluate(cardSets[hand++ & NUMBER_OF_HANDS - 1]);
+  }
+}
@@ -0,0 +1,47 @@
+package poker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Hands per second for a table of six robots with all poker loggers at INFO, as in a simulation. Debug and trace
+ * messages are never written, so any time spent on them is building messages nobody reads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configurationFile=log4j2-benchmark.xml")
+public class LoggingBenchmark {
+
+  private static final int NUMBER_OF_PLAYERS = 6;
+
+  private Dealer dealer;
+
+  @Setup
+  public void setUp() {
+    dealer = new Dealer(new SplittableRandomSource(4711));
+    for (int i = 0; i < NUMBER_OF_PLAYERS; i++) {
+      dealer.registerPlayer(new RobotPlayer("Robot " + i, PokerGame.TOTAL_MARKERS_PER_PLAYER));
+    }
+  }
+
+  @Benchmark
+  public long playHand() {
+    dealer.play();
+    final long commonCards = dealer.getCommonCards();
+    dealer.putCardsBackIntoDeck();
+    return commonCards;
+  }
+}
@@ -0,0 +1,67 @@
+package poker;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Players go all in with different number of markers, the biggest stack first, so every player opens a new side pot.
+ * The players and the pot handler are created once, the pots are cleared before every round of bets as between two
+ * rounds of a game. The bets alone only add to the markers of a seat, the side pots are found when they are paid out
+ * at the showdown, where the shortest stack has the best hand so every pot gets another winner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PotHandlerBenchmark {
+
+  @Param({"3", "6", "10"})
+  int numberOfPlayers;
+
+  private final ToIntFunction<Player> shortestStackWins = player -> Integer.MAX_VALUE - player.getNumberOfMarkers();
+  private Player[] players;
+  private PotHandler potHandler;
+
+  @Setup
+  public void setUp() {
+    players = new Player[numberOfPlayers];
+    for (int i = 0; i < numberOfPlayers; i++) {
+      players[i] = new RobotPlayer("Robot " + i, (numberOfPlayers - i) * 100);
+    }
+    potHandler = new PotHandler();
+  }
+
+  @Benchmark
+  public PotHandler joinPotAllIn() {
+    potHandler.clear();
+    for (Player player : players) {
+      potHandler.joinPot(player, player.getNumberOfMarkers());
+    }
+    return potHandler;
+  }
+
+  @Benchmark
+  public Map<Player, Integer> joinPotAllInAndPayOut() {
+    return joinPotAllIn().getPayouts(shortestStackWins);
+  }
+
+  @Benchmark
+  public int[] joinPotAllInAndFindPotSizes() {
+    return joinPotAllIn().getPotSizes();
+  }
+}
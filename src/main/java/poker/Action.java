@@ -1,15 +1,86 @@
 package poker;
 
+/*
+ * A decision of a player and the markers it is made with. Actions can't be changed, so the same instance is handed
+ * out for equal actions: one per decision without markers and a pool per decision for the amounts a game can have.
+ * Once the pool has an amount, a decision with it does not create any object. Amounts outside the pool get a new
+ * action every time, so actions are compared with equals.
+ *
+ * An action is also a long, the amount above the ordinal of the decision, for anything that wants to keep many of
+ * them, like a hand history.
+ */
 public class Action {
-  private ActionEnum decision;
-  private int amount;
 
-  public Action(ActionEnum decision) {
+  private static final ActionEnum[] DECISIONS = ActionEnum.values();
+  private static final int DECISION_BITS = Byte.SIZE;
+  private static final int POOL_SIZE = PokerGame.MAX_NUMBER_OF_PLAYERS * PokerGame.TOTAL_MARKERS_PER_PLAYER + 1;
+  private static final Action[] WITHOUT_AMOUNT = new Action[DECISIONS.length];
+  // Filled when an amount is first used, two threads may both create an action, they are then equal but not the same
+  private static final Action[][] POOL = new Action[DECISIONS.length][];
+
+  static {
+    for (ActionEnum decision : DECISIONS) {
+      WITHOUT_AMOUNT[decision.ordinal()] = new Action(decision, 0);
+    }
+  }
+
+  static final Action NOT_DECIDED = of(ActionEnum.NOT_DECIDED);
+  static final Action CHECK = of(ActionEnum.CHECK);
+  static final Action FOLD = of(ActionEnum.FOLD);
+
+  private final ActionEnum decision;
+  private final int amount;
+
+  private Action(ActionEnum decision, int amount) {
     this.decision = decision;
+    this.amount = amount;
+  }
+
+  static Action of(ActionEnum decision) {
+    return WITHOUT_AMOUNT[decision.ordinal()];
+  }
+
+  static Action of(ActionEnum decision, int amount) {
+    if (amount == 0) {
+      return of(decision);
+    }
+    if (amount < 0 || amount >= POOL_SIZE) {
+      return new Action(decision, amount);
+    }
+    Action[] pool = POOL[decision.ordinal()];
+    if (pool == null) {
+      pool = new Action[POOL_SIZE];
+      POOL[decision.ordinal()] = pool;
+    }
+    Action action = pool[amount];
+    if (action == null) {
+      action = new Action(decision, amount);
+      pool[amount] = action;
+    }
+    return action;
   }
 
-  void setAmount(int value) {
-    this.amount = value;
+  /*
+   * The same decision made with another number of markers
+   */
+  Action withAmount(int amount) {
+    return of(decision, amount);
+  }
+
+  static long encode(ActionEnum decision, int amount) {
+    return (long) amount << DECISION_BITS | decision.ordinal();
+  }
+
+  static Action decode(long encodedAction) {
+    return of(DECISIONS[(int) (encodedAction & ((1 << DECISION_BITS) - 1))], (int) (encodedAction >> DECISION_BITS));
+  }
+
+  long encode() {
+    return encode(decision, amount);
+  }
+
+  ActionEnum getDecision() {
+    return decision;
   }
 
   int getAmount() {
@@ -17,29 +88,47 @@ public class Action {
   }
 
   boolean isAllIn() {
-    return decision.equals(ActionEnum.ALL_IN);
+    return decision == ActionEnum.ALL_IN;
   }
 
   public boolean isRaise() {
-    return decision.equals(ActionEnum.RAISE);
+    return decision == ActionEnum.RAISE;
   }
 
   public boolean isCheck() {
-    return decision.equals(ActionEnum.CHECK);
+    return decision == ActionEnum.CHECK;
   }
 
   public boolean isFold() {
-    return decision.equals(ActionEnum.FOLD);
+    return decision == ActionEnum.FOLD;
   }
 
   public boolean isNotDecided() {
-    return decision.equals(ActionEnum.NOT_DECIDED);
+    return decision == ActionEnum.NOT_DECIDED;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Action)) {
+      return false;
+    }
+    final Action action = (Action) o;
+    return decision == action.decision && amount == action.amount;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(encode());
   }
 
   @Override
   public String toString() {
     return "Action :[" +
         decision +
+        (amount == 0 ? "" : " " + amount) +
         ']';
   }
 }
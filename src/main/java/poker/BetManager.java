@@ -1,6 +1,6 @@
 package poker;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -10,26 +10,60 @@ import org.apache.logging.log4j.Logger;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
+/*
+ * The betting of a round as a state machine over the players in seat order. The players bet in turn from the head of
+ * the betting, the first player to bet. When a player after the head raises, that player becomes the head and the
+ * others bet again. Folded players and players that are all in stop betting once they have bet.
+ *
+ * The state is kept per seat in arrays, the seats are the positions of the players in the list the bet manager is
+ * created with. A decision only moves the seat that acts and updates the flags of that seat.
+ */
 public class BetManager {
 
   private final int blind;
-  private Map<Player, Boolean> bettingMap = Maps.newLinkedHashMap();
+  private final Player[] players;
+  private final int numberOfPlayers;
+  // Per seat, if the player has bet in the round and if the player still bets
+  private final boolean[] hasBet;
+  private final boolean[] isBetting;
+  private int head = 0;
+  private int lastAggressor = 0;
   private Draw draw;
   private List<Card> commonHand = Lists.newArrayList();
   private PotHandler potHandler;
+  private PotSummary potSummary;
   private int maxRaiseFromAPlayer;
   private static final Logger logger = LogManager.getLogger(BetManager.class);
-  private StringBuilder result = null;
+  // The decisions made since the result was cleared, encoded as longs, and the seats that made them
+  private long[] decisions;
+  private int[] decisionSeats;
+  private int numberOfDecisions = 0;
   private int maxRaiseThisDraw;
+  private final GameListener gameListener;
 
   BetManager(List<Player> playerList,
              int blind,
              PotHandler potHandler) {
+    this(playerList, blind, potHandler, new ConsoleGameListener());
+  }
+
+  BetManager(List<Player> playerList,
+             int blind,
+             PotHandler potHandler,
+             GameListener gameListener) {
     this.blind = blind;
     this.potHandler = potHandler;
+    this.potSummary = potHandler.getSummary();
+    this.gameListener = gameListener;
     this.maxRaiseFromAPlayer = blind;
     maxRaiseThisDraw = blind;
-    initCreateBettingDecisionList(playerList);
+    players = playerList.toArray(new Player[0]);
+    numberOfPlayers = players.length;
+    hasBet = new boolean[numberOfPlayers];
+    isBetting = new boolean[numberOfPlayers];
+    Arrays.fill(isBetting, true);
+    decisions = new long[2 * numberOfPlayers];
+    decisionSeats = new int[2 * numberOfPlayers];
     draw = Draw.BEFORE_FLOP;
     logger.debug("Creating new betManager with highest raise: {{}}", maxRaiseFromAPlayer);
   }
@@ -51,127 +85,118 @@ public class BetManager {
     this.draw = draw;
   }
 
-  public String bet() {
-    result = new StringBuilder();
-    Player playerWithHighestRaise = betUntilAllAreSatisfied(false);
-    while (doesAnyPlayersWantToBetMore(playerWithHighestRaise)) {
-      createBettingDecisionList(playerWithHighestRaise);
-      playerWithHighestRaise = betUntilAllAreSatisfied(true);
+  /*
+   * Lets the players bet until nobody raises any more, the decisions are kept until the next betting, see getResult
+   */
+  public void bet() {
+    initResult();
+    betUntilAllAreSatisfied(false);
+    while (lastAggressor != head) {
+      moveHeadTo(lastAggressor);
+      betUntilAllAreSatisfied(true);
     }
     resetMaxRaiseThisDraw();
     logger.info("Players have finished betting. ");
-    return result.toString();
-  }
-
-  private void initCreateBettingDecisionList(List<Player> playerList) {
-    for (Player player : playerList) {
-      bettingMap.put(player, false);
-    }
-  }
-
-  private boolean doesAnyPlayersWantToBetMore(Player playerWithHighestRaise) {
-    return getPlayersFromBettingMap().indexOf(playerWithHighestRaise) > 0;
-  }
-
-  private List<Player> getPlayersFromBettingMap() {
-    return new ArrayList<>(bettingMap.keySet());
   }
 
+  /*
+   * Makes the raising player the head of the betting, the players are found by name
+   */
   void createBettingDecisionList(Player raisingPlayer) {
-    Map<Player, Boolean> oldBettingMap = Maps.newLinkedHashMap();
-    oldBettingMap.putAll(bettingMap);
-    bettingMap.clear();
-    bettingMap.put(raisingPlayer, oldBettingMap.get(raisingPlayer));
-    logger.trace("Creating list with player [{}] as first. ", raisingPlayer.getName());
-    for (int i = getPlayerIndexFromOldBettingMap(raisingPlayer, oldBettingMap); i < oldBettingMap.keySet().size(); i++) {
-      if (i == getPlayerIndexFromOldBettingMap(raisingPlayer, oldBettingMap)) {
-        continue; // first player shall always be first
+    for (int seat = 0; seat < numberOfPlayers; seat++) {
+      if (players[seat].equals(raisingPlayer)) {
+        moveHeadTo(seat);
+        return;
       }
-      addPlayerThatShallBet(getPlayerFromOldBettingMapIndex(oldBettingMap, i), oldBettingMap);
-    }
-    for (int i = 0; i < getPlayerIndexFromOldBettingMap(raisingPlayer, oldBettingMap); i++) {
-      addPlayerThatShallBet(getPlayerFromOldBettingMapIndex(oldBettingMap, i), oldBettingMap);
-    }
-    for (Player player : getPlayersFromBettingMap()) {
-      logger.trace("Member in new bettingMap [{}]", player.getName());
     }
+    throw new RuntimeException("Player :[" + raisingPlayer.getName() + "] does not bet in this round");
   }
 
-  private Player getPlayerFromOldBettingMapIndex(Map<Player, Boolean> oldBettingMap, int i) {
-    return new ArrayList<>(oldBettingMap.keySet()).get(i);
-  }
-
-  private int getPlayerIndexFromOldBettingMap(Player raisingPlayer, Map<Player, Boolean> oldBettingList) {
-    return new ArrayList<>(oldBettingList.keySet()).indexOf(raisingPlayer);
-  }
-
-  private void addPlayerThatShallBet(Player player, Map<Player, Boolean> oldBettingMap) {
-
-    // If player has gone all in or fold they shall bet only one time
-    if (player.isAllIn() || player.hasFolded()) {
-      if (oldBettingMap.get(player).equals(false)) {
-        bettingMap.put(player, oldBettingMap.get(player));
-        logger.trace("Adding player {{}} to new betting list", player.getName());
-      } else {
-        logger.trace("Player {{}} has already bet and will not be added to new betting list", player.getName());
+  private void moveHeadTo(int raisingSeat) {
+    if (EngineLogging.ENABLED) {
+      logger.trace("Player [{}] is the head of the betting. ", players[raisingSeat].getName());
+    }
+    for (int seat = next(raisingSeat); seat != raisingSeat; seat = next(seat)) {
+      // If player has gone all in or fold they shall bet only one time
+      if (isBetting[seat] && hasBet[seat] && (players[seat].isAllIn() || players[seat].hasFolded())) {
+        isBetting[seat] = false;
+        logger.trace("Player {{}} has already bet and will not bet again", players[seat].getName());
       }
-    } else {
-      bettingMap.put(player, oldBettingMap.get(player));
-      logger.trace("Adding player {{}} to new betting list", player.getName());
     }
+    head = raisingSeat;
+    lastAggressor = raisingSeat;
   }
 
-  Player betUntilAllAreSatisfied(boolean firstPlayerAlreadyBet) {
-    for (Player player : getPlayersFromBettingMap()) {
-      if (hasPlayerBet(player)) continue;
-
-      // If a new betting map is created due to raise of another player, list must be re-ordered with the raising player first. Player has already bet
-      if (isNotFirstBettingRound(firstPlayerAlreadyBet, player)) continue;
+  private int next(int seat) {
+    return seat + 1 == numberOfPlayers ? 0 : seat + 1;
+  }
 
-      logger.debug(
-        "player :[{}] maxRaiseFromOtherPlayer:[{}] numbersOfMarkers :[{}]",
-        player.getName(),
-        maxRaiseFromAPlayer,
-        player.getNumberOfMarkers());
+  /*
+   * Lets the players bet from the head of the betting. Returns the first player after the head that raises or goes
+   * all in, the players after that player have not bet yet. Returns the head if nobody did.
+   */
+  Player betUntilAllAreSatisfied(boolean firstPlayerAlreadyBet) {
+    lastAggressor = head;
+    for (int i = 0, seat = head; i < numberOfPlayers; i++, seat = next(seat)) {
+      if (!isBetting[seat]) continue;
+      final Player player = players[seat];
+      if (hasPlayerBet(seat)) continue;
+
+      // When a player after the head has raised the head has already bet
+      if (firstPlayerAlreadyBet && seat == head) continue;
+
+      if (EngineLogging.ENABLED) {
+        logger.debug(
+          "player :[{}] maxRaiseFromOtherPlayer:[{}] numbersOfMarkers :[{}]",
+          player.getName(),
+          maxRaiseFromAPlayer,
+          player.getNumberOfMarkers());
+      }
       if (player.hasBlind() && !player.hasAnyMarkers()) {
         logger.debug("Player {{}} is all in and has already paid to pot", player.getName());
         continue;
 
       }
-      final int playerPartInPots = potHandler.getPlayerPartInPots(player);
-      Action action = player.decideAction(draw, calculatePlayersAfter(), commonHand, blind, maxRaiseFromAPlayer, maxRaiseThisDraw, playerPartInPots);
+      final int playerPartInPots = potSummary.getPlayerPart(player);
+      Action action = player.decideAction(draw, countPlayersInTheHand(), commonHand, blind, maxRaiseFromAPlayer, maxRaiseThisDraw, playerPartInPots);
       getEventualNewMaxRaiseFromAPlayer(action);
-      bettingMap.put(player, true);
-      result.append("Player ").append(player.getName()).append(" ").append(action.toString()).append(". ");
+      hasBet[seat] = true;
+      addDecision(seat, action);
       logger.trace("Player {{}} has made a bet", player.getName());
-      System.out.println("Player " + player.getName() + " decides to " + action.toString());
+      gameListener.actionDecided(player, action);
       if (action.isFold()) continue;
 
       if (shallPayToPot(playerPartInPots, maxRaiseFromAPlayer)) {
         payToPot(player, action);
       }
-      if (isAPlayerAfterTheFirstPlayerRaisingOrAllIn(player, action)) return player;
+      if (isAPlayerAfterTheHeadRaisingOrAllIn(seat, action)) {
+        lastAggressor = seat;
+        return player;
+      }
     }
-    return getPlayersFromBettingMap().get(0);
+    return players[head];
   }
 
   private void payToPot(Player player, Action action) {
-    final int raiseOrCheckValue = player.getActionAmount(isBeforeFlop(draw));
-    System.out.println("Player " + player.getName() + " puts " + raiseOrCheckValue + " markers to the pot. ");
+    int raiseOrCheckValue = player.getActionAmount(isBeforeFlop(draw));
+    if (raiseOrCheckValue > player.getNumberOfMarkers()) {
+      // A player that can't pay the whole amount goes all in with the markers left, the pot is split by the pot handler
+      raiseOrCheckValue = player.getNumberOfMarkers();
+      player.action = Action.of(ActionEnum.ALL_IN, raiseOrCheckValue);
+    }
+    gameListener.markersPaidToPot(player, raiseOrCheckValue);
     potHandler.joinPot(player, raiseOrCheckValue);
     player.decreaseMarkers(raiseOrCheckValue);
-    logger.debug("Pot size :[{}]. ", potHandler.getNumberOfMarkersInAllPots());
+    if (EngineLogging.ENABLED) {
+      logger.debug("Pot size :[{}]. ", potSummary.getTotal());
+    }
     if (action.getAmount() > maxRaiseThisDraw) {
       maxRaiseThisDraw = action.getAmount();
     }
   }
 
-  private boolean isNotFirstBettingRound(boolean firstPlayerAlreadyBet, Player player) {
-    return firstPlayerAlreadyBet && getPlayersFromBettingMap().indexOf(player) == 0;
-  }
-
-  private boolean hasPlayerBet(Player player) {
-    return (player.isAllIn() || player.hasFolded()) && playerHasBet(player, bettingMap);
+  private boolean hasPlayerBet(int seat) {
+    return (players[seat].isAllIn() || players[seat].hasFolded()) && hasBet[seat];
   }
 
   private void getEventualNewMaxRaiseFromAPlayer(Action action) {
@@ -180,26 +205,20 @@ public class BetManager {
     }
   }
 
-  private boolean isAPlayerAfterTheFirstPlayerRaisingOrAllIn(Player player, Action action) {
+  private boolean isAPlayerAfterTheHeadRaisingOrAllIn(int seat, Action action) {
     if (action.isRaise() || action.isAllIn()) {
-      logger.trace("Player [{}] is [{}]. ", player.getName(), action);
-      if (getPlayersFromBettingMap().indexOf(player) > 0 && !allPlayersAreAllIn()) {
-        logger.trace("Player is not the first player in the list, create new list.");
+      logger.trace("Player [{}] is [{}]. ", players[seat].getName(), action);
+      if (seat != head && !allPlayersAreAllIn()) {
+        logger.trace("Player is not the head of the betting, the others shall bet again.");
         return true;
       }
     }
     return false;
   }
 
-  private boolean playerHasBet(Player player, Map<Player, Boolean> bettingMap) {
-    final Boolean hasBet = bettingMap.get(player);
-    logger.trace("HasBet: {{}}", hasBet);
-    return hasBet;
-  }
-
   private boolean allPlayersAreAllIn() {
-    for (Player player : getPlayersFromBettingMap()) {
-      if (!player.getAction().isAllIn()) {
+    for (int i = 0, seat = head; i < numberOfPlayers; i++, seat = next(seat)) {
+      if (isBetting[seat] && !players[seat].getAction().isAllIn()) {
         return false;
       }
     }
@@ -212,20 +231,38 @@ public class BetManager {
   }
 
   static boolean shallPayToPot(int numberOfMarkersForPlayerInPot, int maxRaiseFromAPlayer) {
-    logger.trace("Number of markers for player in pot {{}} maxRaiseFromAPlayer {{}} ", numberOfMarkersForPlayerInPot, maxRaiseFromAPlayer);
-    if (numberOfMarkersForPlayerInPot < maxRaiseFromAPlayer) {
-      logger.trace("Player shall pay to pot.");
-      return true;
+    final boolean shallPay = numberOfMarkersForPlayerInPot < maxRaiseFromAPlayer;
+    if (EngineLogging.ENABLED) {
+      logger.trace("Number of markers for player in pot {{}} maxRaiseFromAPlayer {{}}, shall pay to pot: {{}}",
+                   numberOfMarkersForPlayerInPot, maxRaiseFromAPlayer, shallPay);
     }
-    logger.trace("Player shall not pay to pot.");
-    return false;
+    return shallPay;
   }
 
-  private int calculatePlayersAfter() {
-    return 0;
+  /*
+   * The players that have not folded, the deciding player included. A player that has gone all in is still in the
+   * hand although it does not bet any more.
+   */
+  private int countPlayersInTheHand() {
+    int numberOfPlayersInTheHand = 0;
+    for (int seat = 0; seat < numberOfPlayers; seat++) {
+      if (!players[seat].hasFolded()) {
+        numberOfPlayersInTheHand++;
+      }
+    }
+    return numberOfPlayersInTheHand;
   }
 
+  /*
+   * The players that still bet from the head of the betting and if they have bet, a copy made for every call
+   */
   public Map<Player, Boolean> getBettingMap() {
+    final Map<Player, Boolean> bettingMap = Maps.newLinkedHashMap();
+    for (int i = 0, seat = head; i < numberOfPlayers; i++, seat = next(seat)) {
+      if (isBetting[seat]) {
+        bettingMap.put(players[seat], hasBet[seat]);
+      }
+    }
     return bettingMap;
   }
 
@@ -234,6 +271,27 @@ public class BetManager {
   }
 
   void initResult() {
-    result = new StringBuilder();
+    numberOfDecisions = 0;
+  }
+
+  private void addDecision(int seat, Action action) {
+    if (numberOfDecisions == decisions.length) {
+      decisions = Arrays.copyOf(decisions, 2 * decisions.length);
+      decisionSeats = Arrays.copyOf(decisionSeats, 2 * decisionSeats.length);
+    }
+    decisions[numberOfDecisions] = action.encode();
+    decisionSeats[numberOfDecisions++] = seat;
+  }
+
+  /*
+   * The decisions of the last betting in the order they were made, the text is only made here
+   */
+  String getResult() {
+    final StringBuilder result = new StringBuilder();
+    for (int i = 0; i < numberOfDecisions; i++) {
+      result.append("Player ").append(players[decisionSeats[i]].getName()).append(" ")
+          .append(Action.decode(decisions[i])).append(". ");
+    }
+    return result.toString();
   }
 }
@@ -49,32 +49,23 @@ class Card {
 
     Boolean isHigher(Card otherCard) {
         boolean isHigher;
-        logger.trace("Comparing the ordinal value of this card:[" + this.toString() + "] with [" + otherCard.toString() + "]");
         if (this.ordinal.getValue() > otherCard.ordinal.getValue()) {
-            logger.trace("[" + this.toString() + "] is higher.");
             isHigher = true;
         } else if (this.ordinal.getValue() == otherCard.ordinal.getValue()) {
-            logger.trace("Same value, compare color.");
             isHigher = compareColor(otherCard);
         } else {
-            logger.trace("[" + otherCard.toString() + "] is higher.");
             isHigher = false;
         }
+        if (EngineLogging.ENABLED) {
+            logger.trace("Comparing this card:[{}] with [{}], this card is higher: [{}]", this, otherCard, isHigher);
+        }
         return isHigher;
     }
 
     private boolean compareColor(Card otherCard) {
-        boolean isColorHigher = false;
-        logger.trace("Comparing the color of this card:[" + this.toString() + "] with [" + otherCard.toString() + "]");
-        if (this.color.getValue() > otherCard.getColor().getValue()) {
-            logger.trace("[" + this.toString() + "] is higher.");
-            isColorHigher = true;
-        } else if (this.color.getValue() == otherCard.getColor().getValue()) {
-            logger.trace("Card was compared to itself");
-        } else {
-            logger.trace("[" + otherCard.toString() + "] is higher.");
-            isColorHigher = false;
+        if (EngineLogging.ENABLED && this.color == otherCard.getColor()) {
+            logger.trace("Card [{}] was compared to itself", this);
         }
-        return isColorHigher;
+        return this.color.getValue() > otherCard.getColor().getValue();
     }
 }
@@ -0,0 +1,221 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/*
+ * A set of cards packed into one long. Each color has a 16 bit lane, the lane of a color starts at bit
+ * 16 * color value and bit 0 of a lane is two and bit 12 is ace. The lane of a color is therefore the 13 bit rank
+ * mask HandEvaluator works with.
+ *
+ * Instances are immutable. Code that must not allocate uses the static methods directly on the long.
+ */
+final class CardSet implements Iterable<Card> {
+
+  private static final int LANE_BITS = 16;
+  private static final int LANE_MASK = (1 << HandEvaluator.NUMBER_OF_RANKS) - 1;
+  private static final int ORDINAL_VALUE_OF_LOWEST_RANK = Ordinal.two.getValue();
+  private static final long LOWEST_RANK_OF_ALL_COLORS = 1L | 1L << LANE_BITS | 1L << 2 * LANE_BITS | 1L << 3 * LANE_BITS;
+  static final long NO_CARDS = 0L;
+  static final long ALL_CARDS = LANE_MASK * LOWEST_RANK_OF_ALL_COLORS;
+
+  // Cards indexed by bit, so a card found in a set never has to be created
+  private static final Card[] CARDS = new Card[Long.SIZE];
+
+  static {
+    for (Color color : Color.values()) {
+      for (Ordinal ordinal : Ordinal.values()) {
+        CARDS[getBitIndex(color, ordinal)] = new Card(color, ordinal);
+      }
+    }
+  }
+
+  private static final CardSet EMPTY = new CardSet(NO_CARDS);
+
+  private final long cards;
+
+  private CardSet(long cards) {
+    this.cards = cards;
+  }
+
+  static CardSet empty() {
+    return EMPTY;
+  }
+
+  static CardSet of(long cards) {
+    return new CardSet(cards);
+  }
+
+  static CardSet of(List<Card> cards) {
+    return new CardSet(toLong(cards));
+  }
+
+  long toLong() {
+    return cards;
+  }
+
+  CardSet with(Card card) {
+    return new CardSet(cards | getBit(card));
+  }
+
+  CardSet union(CardSet other) {
+    return new CardSet(cards | other.cards);
+  }
+
+  CardSet intersection(CardSet other) {
+    return new CardSet(cards & other.cards);
+  }
+
+  CardSet without(CardSet other) {
+    return new CardSet(cards & ~other.cards);
+  }
+
+  boolean contains(Card card) {
+    return contains(cards, card);
+  }
+
+  boolean isEmpty() {
+    return cards == NO_CARDS;
+  }
+
+  int size() {
+    return size(cards);
+  }
+
+  int getColorMask(Color color) {
+    return getColorMask(cards, color);
+  }
+
+  CardSet getCardsWithOrdinal(Ordinal ordinal) {
+    return new CardSet(cards & getOrdinalMask(ordinal));
+  }
+
+  List<Card> toList() {
+    return toList(cards);
+  }
+
+  @Override
+  public Iterator<Card> iterator() {
+    return new Iterator<Card>() {
+      private long cardsLeft = cards;
+
+      @Override
+      public boolean hasNext() {
+        return cardsLeft != NO_CARDS;
+      }
+
+      @Override
+      public Card next() {
+        if (cardsLeft == NO_CARDS) {
+          throw new NoSuchElementException();
+        }
+        final Card card = getLowestCard(cardsLeft);
+        cardsLeft &= cardsLeft - 1;
+        return card;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof CardSet && ((CardSet) obj).cards == cards;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(cards);
+  }
+
+  @Override
+  public String toString() {
+    return EvaluationHandler.getHandAsString(toList());
+  }
+
+  static int getBitIndex(Color color, Ordinal ordinal) {
+    return color.getValue() * LANE_BITS + ordinal.getValue() - ORDINAL_VALUE_OF_LOWEST_RANK;
+  }
+
+  static int getBitIndex(int colorValue, int rank) {
+    return colorValue * LANE_BITS + rank;
+  }
+
+  /*
+   * Rank of the card at a bit index, 0 is two and 12 is ace
+   */
+  static int getRank(int bitIndex) {
+    return bitIndex % LANE_BITS;
+  }
+
+  static int getColorValue(int bitIndex) {
+    return bitIndex / LANE_BITS;
+  }
+
+  static long getBit(Card card) {
+    return 1L << getBitIndex(card.getColor(), card.getOrdinal());
+  }
+
+  static Card getCard(Color color, Ordinal ordinal) {
+    return CARDS[getBitIndex(color, ordinal)];
+  }
+
+  static Card getCard(int bitIndex) {
+    return CARDS[bitIndex];
+  }
+
+  static Card getLowestCard(long cards) {
+    return CARDS[Long.numberOfTrailingZeros(cards)];
+  }
+
+  static long toLong(List<Card> cards) {
+    long bits = NO_CARDS;
+    for (int i = 0; i < cards.size(); i++) {
+      bits |= getBit(cards.get(i));
+    }
+    return bits;
+  }
+
+  static List<Card> toList(long cards) {
+    final List<Card> list = new ArrayList<>(size(cards));
+    for (long cardsLeft = cards; cardsLeft != NO_CARDS; cardsLeft &= cardsLeft - 1) {
+      list.add(getLowestCard(cardsLeft));
+    }
+    return list;
+  }
+
+  static boolean contains(long cards, Card card) {
+    return (cards & getBit(card)) != NO_CARDS;
+  }
+
+  static int size(long cards) {
+    return Long.bitCount(cards);
+  }
+
+  /*
+   * Rank mask of the cards of one color, bit 0 is two and bit 12 is ace
+   */
+  static int getColorMask(long cards, Color color) {
+    return (int) (cards >>> color.getValue() * LANE_BITS) & LANE_MASK;
+  }
+
+  /*
+   * All four cards of an ordinal
+   */
+  static long getOrdinalMask(Ordinal ordinal) {
+    return LOWEST_RANK_OF_ALL_COLORS << ordinal.getValue() - ORDINAL_VALUE_OF_LOWEST_RANK;
+  }
+
+  /*
+   * The highest card, cards of the same ordinal are ordered by color value
+   */
+  static Card getHighestCard(long cards) {
+    for (int rank = HandEvaluator.NUMBER_OF_RANKS - 1; rank >= 0; rank--) {
+      final long cardsOfRank = cards & LOWEST_RANK_OF_ALL_COLORS << rank;
+      if (cardsOfRank != NO_CARDS) {
+        return CARDS[Long.SIZE - 1 - Long.numberOfLeadingZeros(cardsOfRank)];
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,86 @@
+package poker;
+
+import java.util.List;
+
+/*
+ * Prints the events of a game to the console, used by the interactive game
+ */
+class ConsoleGameListener implements GameListener {
+
+  @Override
+  public void roundStarted(int littleBlind, int bigBlind) {
+    System.out.println("Blind is: [" + littleBlind + "] resp: [" + bigBlind + "]");
+  }
+
+  @Override
+  public void blindPaid(Player player, int blindAmount, boolean isBigBlind) {
+    System.out.println(isBigBlind ? "Player to play big blind: " : "Player to play little blind: ");
+    System.out.println("Set blind for :[" + player.getName() + "] amount: " + blindAmount);
+  }
+
+  @Override
+  public void blindAllIn(Player player, int blindAmount, int allInAmount) {
+    System.out.println("Player :[" + player.getName() + "] does not have markers for blind :[" + blindAmount
+                       + "], has to go all in with :[" + allInAmount + "].");
+  }
+
+  @Override
+  public void drawStarted(Draw draw) {
+    switch (draw) {
+      case BEFORE_FLOP:
+        System.out.println("Start play before flop. ");
+        break;
+      case FLOP:
+        System.out.println("Start play flop. ");
+        break;
+      case TURN:
+        System.out.println("Start play turn. ");
+        break;
+      default:
+        System.out.println("Start play river. ");
+        break;
+    }
+  }
+
+  @Override
+  public void handShown(Player player, long cards, int rank) {
+    System.out.print("The hand for :[" + player.getName() + "] is :[" + EvaluationHandler.getHandAsString(cards) + "] ");
+    System.out.println(EvaluationHandler.getPokerHand(rank));
+  }
+
+  @Override
+  public void actionDecided(Player player, Action action) {
+    System.out.println("Player " + player.getName() + " decides to " + action.toString());
+  }
+
+  @Override
+  public void markersPaidToPot(Player player, int amount) {
+    System.out.println("Player " + player.getName() + " puts " + amount + " markers to the pot. ");
+  }
+
+  @Override
+  public void handShownDown(Player player, long cards, int rank, int highScore) {
+    System.out.println("Check if " + player.getName() + " is the winner. ");
+    System.out.println("[" + player.toString() + "] got [" + EvaluationHandler.getPokerHand(rank)
+                       + "] with top card [" + EvaluationHandler.getTopOrdinal(rank) + "]");
+    System.out.println(EvaluationHandler.getHandAsString(cards));
+  }
+
+  @Override
+  public void potWon(Player player, int rank, int amount) {
+    System.out.println(EvaluationHandler.getPokerHand(rank));
+    System.out.println("Player " + player.getName() + " wins pot with " + amount + " markers.");
+  }
+
+  @Override
+  public void roundFinished(List<Player> players) {
+    for (Player player : players) {
+      System.out.println("Number of markers for player " + player.getName() + " : " + player.getNumberOfMarkers());
+    }
+  }
+
+  @Override
+  public void gameWon(Player player) {
+    System.out.println("Player :[" + player.getName() + "] is the winner and won :[" + player.getNumberOfMarkers() + "] markers.");
+  }
+}
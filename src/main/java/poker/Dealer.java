@@ -11,83 +11,92 @@ import static java.util.Arrays.stream;
 public class Dealer {
 
   private static final Logger logger = LogManager.getLogger(Dealer.class.getName());
-  private static final Dealer dealer = new Dealer();
   private DrawManager drawManager = new DrawManager();
-  private List<Player> players = new LinkedList<>();
-  private List<Card> deck = new ArrayList<>();
-  private final Color[] colors = {Color.hearts, Color.spades, Color.clubs, Color.diamonds};
-  private final Ordinal[] ordinals = {Ordinal.two, Ordinal.three, Ordinal.four, Ordinal.five, Ordinal.six,
-          Ordinal.seven, Ordinal.eight, Ordinal.nine, Ordinal.ten, Ordinal.knight, Ordinal.queen, Ordinal.king,
-          Ordinal.ace};
+  private List<Player> players = new ArrayList<>();
+  private final TableSeats tableSeats = new TableSeats();
+  // The index in the win statistics of the player in every seat
+  private int[] statisticsIndexes = new int[PokerGame.MAX_NUMBER_OF_PLAYERS];
+  private final Shuffle shuffle;
+  private final Deck deck;
 
   private List<Card> commonHand = new ArrayList<>();
-  private List<Card> skippedCards = new ArrayList<>();
+  private long commonCards = CardSet.NO_CARDS;
+  private long skippedCards = CardSet.NO_CARDS;
   private static final int NUMBER_OF_CARDS_ON_PRIVATE_HAND = 2;
   private static final int NUMBER_OF_CARD_FOR_FLOP = 3;
   private static final int NUMBER_OF_CARD_FOR_TURN = 1;
   private static final int NUMBER_OF_CARD_FOR_RIVER = 1;
   private static final int SKIP_CARD = 1;
   private static final int NUMBER_OF_CARDS_IN_DECK = 52;
-  private Map<Player, List<PokerResult>> winStatistics = new HashMap<>();
+  private final WinStatistics winStatistics = new WinStatistics();
+  private final DrawnCardStatistics drawnCardStatistics = new DrawnCardStatistics();
+  private GameListener gameListener = new ConsoleGameListener();
 
-  static Dealer getInstance() {
-    return dealer;
+  Dealer() {
+    this(new SplittableRandomSource());
   }
 
-  private Dealer() {
-    populateDeck();
-    EvaluationHandler.initDrawnCardStatistics();
+  Dealer(RandomSource randomSource) {
+    shuffle = new Shuffle(randomSource);
+    deck = new Deck(shuffle);
   }
 
-  private void populateDeck() {
-    for (Color color : colors) {
-      for (Ordinal ordinal : ordinals) {
-        deck.add(new Card(color, ordinal));
-      }
-    }
+  /*
+   * Used from the next shuffle, a seeded source makes the following hands repeatable
+   */
+  void setRandomSource(RandomSource randomSource) {
+    shuffle.setRandomSource(randomSource);
+  }
+
+  void setGameListener(GameListener gameListener) {
+    this.gameListener = gameListener;
   }
 
   Player registerPlayer(Player player) {
     players.add(player);
-    winStatistics.put(player, new ArrayList<>());
+    final int seat = tableSeats.seat(player);
+    if (seat >= statisticsIndexes.length) {
+      statisticsIndexes = Arrays.copyOf(statisticsIndexes, statisticsIndexes.length * 2);
+    }
+    statisticsIndexes[seat] = winStatistics.addPlayer(player.getName());
     return player;
   }
 
-  private List<Card> dealRandomCard(int numberOfDesiredCards) {
+  TableSeats getTableSeats() {
+    return tableSeats;
+  }
+
+  List<Card> dealRandomCard(int numberOfDesiredCards) {
     List<Card> cardsInHand = new ArrayList<>();
 
     while (cardsInHand.size() < numberOfDesiredCards) {
-      Card drawnCard;
-      do {
-        drawnCard = getRandomCard();
-      } while (!deck.contains(drawnCard));
-      logger.trace("Drawing card:" + drawnCard.toString() + "]");
+      final Card drawnCard = deck.dealCard();
+      if (EngineLogging.ENABLED) {
+        logger.trace("Drawing card:[{}]", drawnCard);
+      }
       cardsInHand.add(drawnCard);
-      EvaluationHandler.updateDrawnCardStatistics(drawnCard);
-      removeCardFromDeck(drawnCard);
+      drawnCardStatistics.update(drawnCard);
     }
     return cardsInHand;
   }
 
   private Card getRandomCard() {
-    Color color = Shuffle.getRandomColor();
-    Ordinal ordinal = Shuffle.getRandomOrdinal();
-    return new Card(color, ordinal);
-  }
-
-  private void removeCardFromDeck(Card drawnCard) {
-    boolean isCardRemovedFromDeck = deck.remove(drawnCard);
-    if (!isCardRemovedFromDeck) {
-      throw new RuntimeException("Card was not removed from deck!");
-    }
+    Color color = shuffle.getRandomColor();
+    Ordinal ordinal = shuffle.getRandomOrdinal();
+    return CardSet.getCard(color, ordinal);
   }
 
   private List<Card> dealCommon(int numberOfCards) {
     List<Card> drawnCards = dealRandomCard(numberOfCards);
-    commonHand.addAll(drawnCards);
+    addCommonCards(drawnCards);
     return drawnCards;
   }
 
+  private void addCommonCards(List<Card> cards) {
+    commonHand.addAll(cards);
+    commonCards |= CardSet.toLong(cards);
+  }
+
   private boolean isCommonHandForFlopTest() {
     // At test common hand is already set
     return commonHand.size() == 3;
@@ -107,7 +116,7 @@ public class Dealer {
     if (!isTest(player)) {
       player.addPrivateCards(dealPrivateHand());
     }
-    player.evaluateHand(commonHand);
+    player.rank(commonCards);
   }
 
   private boolean isTest(Player player) {
@@ -116,15 +125,15 @@ public class Dealer {
   }
 
   void playFlop(Player player) {
-    player.evaluateHand(commonHand);
+    player.rank(commonCards);
   }
 
   void playTurn(Player player) {
-    player.evaluateHand(commonHand);
+    player.rank(commonCards);
   }
 
   private void playRiver(Player player) {
-    player.evaluateHand(commonHand);
+    player.rank(commonCards);
   }
 
   List<Card> drawFlop() {
@@ -153,13 +162,11 @@ public class Dealer {
   }
 
   private void skipCard() {
-    logger.trace("The card:");
-    skippedCards.addAll(dealRandomCard(SKIP_CARD));
-    logger.trace(" is skipped.");
+    skippedCards |= CardSet.toLong(dealRandomCard(SKIP_CARD));
   }
 
   private List<Card> dealPrivateHand() {
-    return dealer.dealRandomCard(NUMBER_OF_CARDS_ON_PRIVATE_HAND);
+    return dealRandomCard(NUMBER_OF_CARDS_ON_PRIVATE_HAND);
   }
 
   void play() {
@@ -191,15 +198,9 @@ public class Dealer {
   private List<Card> drawCardsFromDeck(List<Card> privateHand) {
     List<Card> drawnCards = new ArrayList<>();
     for (Card card : privateHand) {
-      if (!deck.contains(card)) {
-        throw new RuntimeException("Card [" + card.toString() + "] is not present in the Deck!");
-      }
-      logger.debug("Drawing card:" + card.toString() + "]");
+      logger.debug("Drawing card:[{}]", card);
+      deck.removeCard(card);
       drawnCards.add(card);
-      boolean isCardRemovedFromDeck = deck.remove(card);
-      if (!isCardRemovedFromDeck) {
-        throw new RuntimeException("Card [" + card + "] was not removed from deck!");
-      }
     }
     return drawnCards;
   }
@@ -208,91 +209,75 @@ public class Dealer {
     return commonHand;
   }
 
-  List<Player> getPlayers() {
-    return players;
+  long getCommonCards() {
+    return commonCards;
   }
 
-  private void putBackCardsToDeck(List<Card> cards) {
-    for (Card card : cards) {
-      if (deck.contains(card)) {
-        throw new RuntimeException("Deck already contains: [" +
-            card.toString() + "] deck size: [" +
-            deck.size() + "] number of cards on hand: [" +
-            cards.size() + "]");
-      }
-      deck.add(card);
-    }
+  List<Player> getPlayers() {
+    return players;
   }
 
-  private List<Card> getSkippedCards() {
+  private long getSkippedCards() {
     return skippedCards;
   }
 
-  private boolean isDeckFull() {
-    if (deck.size() == NUMBER_OF_CARDS_IN_DECK) {
+  private boolean isAllCardsAccountedFor(long cardsOutsideDeck) {
+    if ((deck.getCards() | cardsOutsideDeck) == CardSet.ALL_CARDS
+        && deck.size() + CardSet.size(cardsOutsideDeck) == NUMBER_OF_CARDS_IN_DECK) {
       return true;
     } else {
-      logger.info("Deck contains :[" + deck.size() + "] number of cards.");
+      logger.info("Deck contains :[" + deck.size() + "] number of cards and [" + CardSet.size(cardsOutsideDeck)
+                  + "] cards are outside the deck.");
       return false;
     }
   }
 
-  private void updateWinStatistics(Player winner, Map<Card, PokerResult> highScore) {
-    List<PokerResult> pokerHands = winStatistics.get(winner);
-    PokerResult pokerResult = EvaluationHandler.getResultFromCardPokerResultMap(highScore);
-    pokerHands.add(pokerResult);
-    winStatistics.put(winner, pokerHands);
+  private void updateWinStatistics(List<Player> winners, int highScore) {
+    final int category = EvaluationHandler.getPokerHand(highScore).getValue() / 100;
+    for (Player winner : winners) {
+      winStatistics.addWin(statisticsIndexes[tableSeats.getSeat(winner)], category);
+    }
   }
 
+  /*
+   * Prints the wins since the last print
+   */
   void printWinStatistics() {
-    Map<PokerHand, Integer> allPlayerWinStatistics = initAllPlayerWinStatistics();
-    Set<Player> playerSet = winStatistics.keySet();
-    for (Player player : playerSet) {
-      List<PokerResult> resultStatistics = winStatistics.get(player);
-      logger.info("[" + player.getName() + "] won [" + resultStatistics.size() + "] number of times on [");
+    for (int playerIndex = 0; playerIndex < winStatistics.getNumberOfPlayers(); playerIndex++) {
+      logger.info("[" + winStatistics.getPlayerName(playerIndex) + "] won [" + winStatistics.getNumberOfWins(playerIndex)
+                  + "] number of times on [");
       for (PokerHand pokerHand : PokerHand.values()) {
-        int numberOfMatches = getNumberOfPokerResults(pokerHand, resultStatistics);
+        long numberOfMatches = winStatistics.getNumberOfWins(playerIndex, pokerHand);
         if (numberOfMatches > 0) {
           logger.info(pokerHand.toString() + ": [" + numberOfMatches + "] times.");
-          Integer allPlayerNumberOfMatches = allPlayerWinStatistics.get(pokerHand);
-          allPlayerNumberOfMatches = allPlayerNumberOfMatches + numberOfMatches;
-          allPlayerWinStatistics.put(pokerHand, allPlayerNumberOfMatches);
         }
       }
-      winStatistics.put(player, new ArrayList<>());
     }
-    printAllPlayerStatistics(allPlayerWinStatistics);
+    printAllPlayerStatistics();
+    winStatistics.clear();
   }
 
-  private void printAllPlayerStatistics(Map<PokerHand, Integer> allPlayerWinStatistics) {
+  private void printAllPlayerStatistics() {
     logger.info("Total game statistics for this round for all players:");
-    stream(PokerHand.values()).forEach(e -> logger.info("Number of wins on :[" + e.toString() + "] : [" + allPlayerWinStatistics.get(e) + "]"));
-  }
-
-
-  private Map<PokerHand, Integer> initAllPlayerWinStatistics() {
-    Map<PokerHand, Integer> allPlayerWinStatistics = new EnumMap<>(PokerHand.class);
-    stream(PokerHand.values()).forEach(e -> allPlayerWinStatistics.put(e, 0));
-    return allPlayerWinStatistics;
+    stream(PokerHand.values()).forEach(e -> logger.info("Number of wins on :[" + e.toString() + "] : [" + winStatistics.getNumberOfWins(e) + "]"));
   }
 
-  private int getNumberOfPokerResults(PokerHand result, List<PokerResult> pokerResultList) {
-    int numberOfMatches = 0;
-    for (PokerResult pokerResult : pokerResultList) {
-      if (result.equals(pokerResult.getPokerHand())) {
-        numberOfMatches++;
-      }
-    }
-    return numberOfMatches;
+  WinStatistics getWinStatistics() {
+    return winStatistics;
   }
 
   public void reserveCardToFlop(Color color, Ordinal ordinal) {
-    final Card desiredCard = new Card(color, ordinal);
+    final Card desiredCard = CardSet.getCard(color, ordinal);
     if (!deck.contains(desiredCard)) {
       throw new RuntimeException("Deck does not contain :[" + desiredCard.toString() + "]");
     }
+    deck.removeCard(desiredCard);
     commonHand.add(desiredCard);
-    removeCardFromDeck(desiredCard);
+    commonCards |= CardSet.getBit(desiredCard);
+  }
+
+  Ordinal getRandomOrdinal() {
+    return shuffle.getRandomOrdinal();
   }
 
   public Ordinal getAnotherOrdinal(Ordinal ordinal) {
@@ -323,26 +308,48 @@ public class Dealer {
     findTheWinner(null);
   }
 
-  Player findTheWinner(List<Player> playersStillInTheGame) {
-    Player winner = null;
-    Map<Card, PokerResult> highScore = new HashMap<>();
-    highScore.put(EvaluationHandler.getLeastValueableCard(), new PokerResult(PokerHand.NO_RESULT));
-    for (Player player : dealer.getPlayers()) {
-      if (isPlayerStillInTheGame(playersStillInTheGame, player)) {  // TODO: parameter should not be needed to this method, this check should be replaced with !hasFolded
-        System.out.println("Check if " + player.getName() + " is the winner. ");
-        Map<Card, PokerResult> result = player.evaluateHand(commonHand);
-        logResult(player, result, highScore);
-        if (EvaluationHandler.isResultFromLatestPlayerHigherThanHighScore(result, highScore)) {
-          highScore.clear();
-          highScore.putAll(result);
-          winner = player;
-        }
+  /*
+   * Returns the players with the best hand, more than one player if the best hands are equally good and the pot
+   * shall be split. The rank each player keeps in its hand state is used, a hand ranked on the river is not
+   * evaluated again.
+   */
+  List<Player> findTheWinner(List<Player> playersStillInTheGame) {
+    final int numberOfPlayers = players.size();
+    final int[] ranks = new int[numberOfPlayers];
+    for (int i = 0; i < numberOfPlayers; i++) {
+      final Player player = players.get(i);
+      // TODO: parameter should not be needed to this method, this check should be replaced with !hasFolded
+      ranks[i] = isPlayerStillInTheGame(playersStillInTheGame, player) ? player.rank(commonCards) : Showdown.FOLDED;
+    }
+    final int[] winnerIndexes = new int[numberOfPlayers];
+    final int numberOfWinners = Showdown.findWinners(ranks, numberOfPlayers, winnerIndexes);
+    if (numberOfWinners == 0) {
+      throw new RuntimeException("No player is left to win the game");
+    }
+    final int highScore = ranks[winnerIndexes[0]];
+    for (int i = 0; i < numberOfPlayers; i++) {
+      if (ranks[i] != Showdown.FOLDED) {
+        logResult(players.get(i), ranks[i], highScore);
       }
     }
-    dealer.updateWinStatistics(winner, highScore);
-    logger.info(
-            "And the winner is:[" + Objects.requireNonNull(winner).getName() + "] with highscore :[" + printPokerResult(highScore) + "]");
-    return winner;
+    List<Player> winners = new ArrayList<>(numberOfWinners);
+    for (int i = 0; i < numberOfWinners; i++) {
+      winners.add(players.get(winnerIndexes[i]));
+    }
+    updateWinStatistics(winners, highScore);
+    logger.info("And the winner is:[" + printPlayerNames(winners) + "] with highscore :[" + printPokerResult(highScore) + "]");
+    return winners;
+  }
+
+  private String printPlayerNames(List<Player> winners) {
+    StringBuilder names = new StringBuilder();
+    for (Player winner : winners) {
+      if (names.length() > 0) {
+        names.append(", ");
+      }
+      names.append(winner.getName());
+    }
+    return names.toString();
   }
 
   private boolean isPlayerStillInTheGame(List<Player> playersStillInTheGame, Player player) {
@@ -352,52 +359,55 @@ public class Dealer {
     return playersStillInTheGame.contains(player);
   }
 
-  private void logResult(Player player, Map<Card, PokerResult> result, Map<Card, PokerResult> highScore) {
-    System.out.println("[" + player.toString() + "] got [" + EvaluationHandler.getResultFromCardPokerResultMap(result).getPokerHand()
-            + "] with top card [" + EvaluationHandler.getTopCardFromResult(result) + "]");
-    List<Card> totalHand = Lists.newArrayList();
-    totalHand.addAll(player.getPrivateHand());
-    totalHand.addAll(commonHand);
-    System.out.println(EvaluationHandler.getHandAsString(totalHand));
-    logger.trace(" from hand:[" + EvaluationHandler.getHandAsString(player.getPrivateHand()) + "]");
-    logger.trace("Highscore is:[" + highScore.toString() + "]");
+  private void logResult(Player player, int rank, int highScore) {
+    gameListener.handShownDown(player, player.getPrivateCards() | commonCards, rank, highScore);
+    if (EngineLogging.ENABLED) {
+      logger.trace(" from hand:[{}]", EvaluationHandler.getHandAsString(player.getPrivateHand()));
+      logger.trace("Highscore is:[{}]", highScore);
+    }
   }
 
-  private String printPokerResult(Map<Card, PokerResult> highScore) {
+  private String printPokerResult(int highScore) {
     StringBuilder result = new StringBuilder();
-    Card topCardFromResult = EvaluationHandler.getTopCardFromResult(highScore);
-    result.append(highScore.get(topCardFromResult).getPokerHand()).append(" top card: ").append(topCardFromResult.toString());
+    result.append(EvaluationHandler.getPokerHand(highScore)).append(" top card: ")
+        .append(EvaluationHandler.getTopOrdinal(highScore));
 
     return result.toString();
   }
 
   public void putCardsBackIntoDeck() {
     logger.debug("Put back private cards to deck for all players. ");
+    long cardsOutsideDeck = commonCards | skippedCards;
     for (Player player:players) {
-      putBackCardsToDeck(player.getPrivateHand());
+      cardsOutsideDeck |= player.getPrivateCards();
       player.removeCardsFromHand();
     }
-    logger.debug("Put back common cards to deck. ");
-    putBackCardsToDeck(dealer.getCommonHand());
-    commonHand.clear();
-    logger.debug("Put back skipped cards to deck. ");
-    putBackCardsToDeck(dealer.getSkippedCards());
-    skippedCards.clear();
-    if (!dealer.isDeckFull()) {
+    if (!isAllCardsAccountedFor(cardsOutsideDeck)) {
       throw new RuntimeException("Cards were lost!");
     }
+    commonHand.clear();
+    commonCards = CardSet.NO_CARDS;
+    skippedCards = CardSet.NO_CARDS;
+    logger.debug("Reshuffle the deck. ");
+    deck.reset();
   }
 
   void clearGameForTests() {
     logger.debug("Clearing tests");
     players.clear();
-    deck.clear();
+    tableSeats.clear();
     commonHand.clear();
-    populateDeck();
+    commonCards = CardSet.NO_CARDS;
+    skippedCards = CardSet.NO_CARDS;
+    deck.reset();
   }
 
   void addToCommonHand(List<Card> cards) {
-    commonHand.addAll(drawCardsFromDeck(cards));
+    addCommonCards(drawCardsFromDeck(cards));
+  }
+
+  DrawnCardStatistics getDrawnCardStatistics() {
+    return drawnCardStatistics;
   }
 
   void increaseDraw() {
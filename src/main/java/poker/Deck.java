@@ -0,0 +1,75 @@
+package poker;
+
+/*
+ * A shuffled deck. The order of the cards is a permutation of the card bit indexes which is shuffled once per
+ * hand, dealing a card is to advance an index. Cards taken from the deck by other means (i.e. a hand set by a test)
+ * are only removed from the mask and are skipped when the index reaches them.
+ */
+class Deck {
+
+  private static final int NUMBER_OF_CARDS_IN_DECK = 52;
+
+  private final Shuffle shuffle;
+  private final int[] order = new int[NUMBER_OF_CARDS_IN_DECK];
+  private int position;
+  private long cards;
+
+  Deck(Shuffle shuffle) {
+    this.shuffle = shuffle;
+    reset();
+  }
+
+  /*
+   * Puts all cards back and shuffles the deck. The shuffle always starts from the same order, so the deal only
+   * depends on the random source.
+   */
+  void reset() {
+    int i = 0;
+    for (Color color : Color.values()) {
+      for (Ordinal ordinal : Ordinal.values()) {
+        order[i++] = CardSet.getBitIndex(color, ordinal);
+      }
+    }
+    cards = CardSet.ALL_CARDS;
+    position = 0;
+    shuffle.shuffle(order);
+  }
+
+  Card dealCard() {
+    return CardSet.getCard(dealBitIndex());
+  }
+
+  /*
+   * Deals a card as its CardSet bit index
+   */
+  int dealBitIndex() {
+    while (position < NUMBER_OF_CARDS_IN_DECK) {
+      final int bitIndex = order[position++];
+      final long bit = 1L << bitIndex;
+      if ((cards & bit) != CardSet.NO_CARDS) {
+        cards &= ~bit;
+        return bitIndex;
+      }
+    }
+    throw new RuntimeException("No cards left in deck!");
+  }
+
+  void removeCard(Card card) {
+    if (!contains(card)) {
+      throw new RuntimeException("Card [" + card.toString() + "] is not present in the Deck!");
+    }
+    cards &= ~CardSet.getBit(card);
+  }
+
+  boolean contains(Card card) {
+    return CardSet.contains(cards, card);
+  }
+
+  long getCards() {
+    return cards;
+  }
+
+  int size() {
+    return CardSet.size(cards);
+  }
+}
@@ -0,0 +1,69 @@
+package poker;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Number of times each card has been drawn. There is one LongAdder per card, so several threads may draw cards
+ * without locking, each adder spreads the updates from different threads over its own cells and sums them on read.
+ * The sums are exact once all threads are done drawing.
+ */
+class DrawnCardStatistics {
+
+  private static final Color[] COLORS = Color.values();
+  private static final Ordinal[] ORDINALS = Ordinal.values();
+  private static final int NUMBER_OF_ORDINALS = ORDINALS.length;
+  private static final int NUMBER_OF_CARDS = COLORS.length * NUMBER_OF_ORDINALS;
+  private static final int ORDINAL_VALUE_OF_LOWEST_RANK = Ordinal.two.getValue();
+
+  // Indexed by color value * 13 + ordinal value - 2
+  private final LongAdder[] drawnCards = new LongAdder[NUMBER_OF_CARDS];
+
+  DrawnCardStatistics() {
+    for (int i = 0; i < NUMBER_OF_CARDS; i++) {
+      drawnCards[i] = new LongAdder();
+    }
+  }
+
+  private static int getIndex(Color color, Ordinal ordinal) {
+    return color.getValue() * NUMBER_OF_ORDINALS + ordinal.getValue() - ORDINAL_VALUE_OF_LOWEST_RANK;
+  }
+
+  void clear() {
+    for (LongAdder numberOfDraws : drawnCards) {
+      numberOfDraws.reset();
+    }
+  }
+
+  void update(Card drawnCard) {
+    drawnCards[getIndex(drawnCard.getColor(), drawnCard.getOrdinal())].increment();
+  }
+
+  long getNumberOfDrawnCards(Color color, Ordinal ordinal) {
+    return drawnCards[getIndex(color, ordinal)].sum();
+  }
+
+  long getNumberOfDrawnCards() {
+    long numberOfCards = 0;
+    for (LongAdder numberOfDraws : drawnCards) {
+      numberOfCards += numberOfDraws.sum();
+    }
+    return numberOfCards;
+  }
+
+  long getNumberOfDrawnCardsWithColor(Color requestedColor) {
+    final int firstIndex = requestedColor.getValue() * NUMBER_OF_ORDINALS;
+    long numberOfColor = 0;
+    for (int i = firstIndex; i < firstIndex + NUMBER_OF_ORDINALS; i++) {
+      numberOfColor += drawnCards[i].sum();
+    }
+    return numberOfColor;
+  }
+
+  long getNumberOfDrawnCardsWithOrdinal(Ordinal requestedOrdinal) {
+    long numberOfOrdinal = 0;
+    for (int i = requestedOrdinal.getValue() - ORDINAL_VALUE_OF_LOWEST_RANK; i < NUMBER_OF_CARDS; i += NUMBER_OF_ORDINALS) {
+      numberOfOrdinal += drawnCards[i].sum();
+    }
+    return numberOfOrdinal;
+  }
+}
@@ -0,0 +1,13 @@
+package poker;
+
+/*
+ * Switch for the debug and trace logging in the hot paths of the engine: evaluation, dealing, card comparison and
+ * pots. The switch is a static final that is read once when the class is loaded, so when it is off the JIT removes
+ * the guarded statements entirely and neither the message nor its arguments are built. Turn it on with
+ * -Dpoker.engineLogging=true, the log levels in log4j2.xml still apply on top of it.
+ */
+final class EngineLogging {
+  private EngineLogging() {}
+
+  static final boolean ENABLED = Boolean.getBoolean("poker.engineLogging");
+}
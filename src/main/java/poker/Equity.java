@@ -0,0 +1,93 @@
+package poker;
+
+/*
+ * Outcome of the showdowns played by the EquityCalculator for one hand. A showdown is won, lost or tied, a tie gives
+ * an equal share of the pot to every player with the best hand. The equity is the average share of the pot.
+ *
+ * Every Monte Carlo task fills its own instance, the instances are merged by the calculator.
+ */
+class Equity {
+
+  private long numberOfShowdowns;
+  private long numberOfWins;
+  private long numberOfTies;
+  private double potShares;
+  private double squaredPotShares;
+  private boolean exact;
+
+  void addWin() {
+    numberOfShowdowns++;
+    numberOfWins++;
+    potShares++;
+    squaredPotShares++;
+  }
+
+  void addTie(int numberOfPlayersSharingPot) {
+    final double potShare = 1.0 / numberOfPlayersSharingPot;
+    numberOfShowdowns++;
+    numberOfTies++;
+    potShares += potShare;
+    squaredPotShares += potShare * potShare;
+  }
+
+  void addLoss() {
+    numberOfShowdowns++;
+  }
+
+  void merge(Equity other) {
+    numberOfShowdowns += other.numberOfShowdowns;
+    numberOfWins += other.numberOfWins;
+    numberOfTies += other.numberOfTies;
+    potShares += other.potShares;
+    squaredPotShares += other.squaredPotShares;
+  }
+
+  void setExact(boolean exact) {
+    this.exact = exact;
+  }
+
+  /*
+   * True if every possible showdown was played, the probabilities are then exact
+   */
+  boolean isExact() {
+    return exact;
+  }
+
+  long getNumberOfShowdowns() {
+    return numberOfShowdowns;
+  }
+
+  double getEquity() {
+    return potShares / numberOfShowdowns;
+  }
+
+  double getWinProbability() {
+    return (double) numberOfWins / numberOfShowdowns;
+  }
+
+  double getTieProbability() {
+    return (double) numberOfTies / numberOfShowdowns;
+  }
+
+  double getLossProbability() {
+    return (double) (numberOfShowdowns - numberOfWins - numberOfTies) / numberOfShowdowns;
+  }
+
+  /*
+   * Half the width of the confidence interval of the equity, zScore is i.e. 1.96 for a 95% confidence interval
+   */
+  double getMarginOfError(double zScore) {
+    if (exact) {
+      return 0;
+    }
+    final double equity = getEquity();
+    final double variance = Math.max(0, squaredPotShares / numberOfShowdowns - equity * equity);
+    return zScore * Math.sqrt(variance / numberOfShowdowns);
+  }
+
+  @Override
+  public String toString() {
+    return "Equity [" + getEquity() + "] win [" + getWinProbability() + "] tie [" + getTieProbability() + "] loss ["
+           + getLossProbability() + "] after [" + numberOfShowdowns + "] showdowns" + (exact ? "" : " (Monte Carlo)");
+  }
+}
@@ -0,0 +1,139 @@
+package poker;
+
+import java.util.Arrays;
+
+/*
+ * A least recently used cache of equities by long key, kept in arrays that are allocated when the cache is created,
+ * so a lookup or a store neither allocates nor boxes. Every entry has a slot in the arrays. The slots are found
+ * through an open addressing table with linear probing and are linked from the most to the least recently used, the
+ * least recently used slot is reused when the cache is full.
+ *
+ * The cache is not thread safe, EquityService locks it.
+ */
+final class EquityCache {
+
+  private static final int NO_SLOT = -1;
+
+  private final long[] keys;
+  private final float[] equities;
+  // Per slot, the slot used just after and just before it
+  private final int[] newer;
+  private final int[] older;
+  private final int[] table;
+  private final int tableMask;
+  private int size = 0;
+  private int mostRecent = NO_SLOT;
+  private int leastRecent = NO_SLOT;
+
+  EquityCache(int capacity) {
+    if (capacity < 1) {
+      throw new RuntimeException("An equity cache holds at least one entry, not [" + capacity + "]");
+    }
+    keys = new long[capacity];
+    equities = new float[capacity];
+    newer = new int[capacity];
+    older = new int[capacity];
+    // At most half full, so the probe sequences stay short
+    table = new int[Integer.highestOneBit(2 * capacity - 1) << 1];
+    Arrays.fill(table, NO_SLOT);
+    tableMask = table.length - 1;
+  }
+
+  /*
+   * The equity of the key, NaN if it is not in the cache. A key that is found becomes the most recently used.
+   */
+  float get(long key) {
+    final int slot = table[findIndex(key)];
+    if (slot == NO_SLOT) {
+      return Float.NaN;
+    }
+    moveToFront(slot);
+    return equities[slot];
+  }
+
+  void put(long key, float equity) {
+    int slot = table[findIndex(key)];
+    if (slot != NO_SLOT) {
+      equities[slot] = equity;
+      moveToFront(slot);
+      return;
+    }
+    if (size < keys.length) {
+      slot = size++;
+    } else {
+      slot = leastRecent;
+      unlink(slot);
+      removeFromTable(keys[slot]);
+    }
+    keys[slot] = key;
+    equities[slot] = equity;
+    table[findIndex(key)] = slot;
+    linkFirst(slot);
+  }
+
+  int size() {
+    return size;
+  }
+
+  /*
+   * The index of the key in the table, or of the empty index where it would be put
+   */
+  private int findIndex(long key) {
+    int index = getHomeIndex(key);
+    while (table[index] != NO_SLOT && keys[table[index]] != key) {
+      index = index + 1 & tableMask;
+    }
+    return index;
+  }
+
+  private int getHomeIndex(long key) {
+    return (int) (key * 0x9E3779B97F4A7C15L >>> Integer.SIZE) & tableMask;
+  }
+
+  /*
+   * Moves the entries after the removed one back into the hole when their home index allows it, so every key can be
+   * found from its home index without marking removed entries
+   */
+  private void removeFromTable(long key) {
+    int hole = findIndex(key);
+    for (int index = hole + 1 & tableMask; table[index] != NO_SLOT; index = index + 1 & tableMask) {
+      final int home = getHomeIndex(keys[table[index]]);
+      if ((index - home & tableMask) >= (index - hole & tableMask)) {
+        table[hole] = table[index];
+        hole = index;
+      }
+    }
+    table[hole] = NO_SLOT;
+  }
+
+  private void moveToFront(int slot) {
+    if (slot != mostRecent) {
+      unlink(slot);
+      linkFirst(slot);
+    }
+  }
+
+  private void unlink(int slot) {
+    if (newer[slot] == NO_SLOT) {
+      mostRecent = older[slot];
+    } else {
+      older[newer[slot]] = older[slot];
+    }
+    if (older[slot] == NO_SLOT) {
+      leastRecent = newer[slot];
+    } else {
+      newer[older[slot]] = newer[slot];
+    }
+  }
+
+  private void linkFirst(int slot) {
+    newer[slot] = NO_SLOT;
+    older[slot] = mostRecent;
+    if (mostRecent == NO_SLOT) {
+      leastRecent = slot;
+    } else {
+      newer[mostRecent] = slot;
+    }
+    mostRecent = slot;
+  }
+}
@@ -0,0 +1,294 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/*
+ * Calculates the equity of a private hand against a number of opponents with random hands, given the common cards
+ * dealt so far.
+ *
+ * When the remaining common cards and the hands of the opponents can be dealt in at most exhaustiveLimit ways every
+ * way is played and the result is exact. With the default limit that is the turn heads up and the river against at
+ * most two opponents, on the flop and preflop it is never the case. Otherwise random showdowns are played in
+ * rounds of tasks on several threads until the margin of error of the equity is small enough or the maximum number
+ * of showdowns is reached. Every task has its own random source split from the source of the calculator and the
+ * rounds do not depend on the number of threads, so a seeded calculator gives the same result on any number of
+ * threads.
+ *
+ * A calculator may be shared by several threads. Every calculation splits a source of its own from the source of the
+ * calculator while holding its lock, the source of the calculator is never used outside it.
+ *
+ * The tasks run on one executor for the life of the calculator, either given to it or created by it with daemon
+ * threads. An executor the calculator created is shut down by close.
+ */
+class EquityCalculator implements AutoCloseable {
+
+  private static final Logger logger = LogManager.getLogger(EquityCalculator.class);
+  private static final int NUMBER_OF_CARDS_ON_PRIVATE_HAND = 2;
+  private static final int NUMBER_OF_COMMON_CARDS = 5;
+  private static final int SHOWDOWNS_PER_TASK = 1 << 12;
+  private static final int TASKS_PER_ROUND = 8;
+  static final long DEFAULT_EXHAUSTIVE_LIMIT = 1 << 21;
+  static final double DEFAULT_Z_SCORE = 1.96;
+  static final double DEFAULT_MARGIN_OF_ERROR = 0.005;
+  static final long DEFAULT_MAX_NUMBER_OF_SHOWDOWNS = 1 << 22;
+
+  // Null when the tasks run on the calling thread
+  private final ExecutorService executor;
+  private final boolean ownsExecutor;
+  private final RandomSource randomSource;
+  private long exhaustiveLimit = DEFAULT_EXHAUSTIVE_LIMIT;
+  private double zScore = DEFAULT_Z_SCORE;
+  private double marginOfError = DEFAULT_MARGIN_OF_ERROR;
+  private long maxNumberOfShowdowns = DEFAULT_MAX_NUMBER_OF_SHOWDOWNS;
+
+  EquityCalculator(int numberOfThreads, RandomSource randomSource) {
+    this(numberOfThreads > 1 ? Executors.newFixedThreadPool(numberOfThreads, EquityCalculator::newDaemonThread) : null,
+         numberOfThreads > 1, randomSource);
+  }
+
+  /*
+   * The tasks run on the executor, which is left running when the calculator is closed
+   */
+  EquityCalculator(ExecutorService executor, RandomSource randomSource) {
+    this(executor, false, randomSource);
+  }
+
+  private EquityCalculator(ExecutorService executor, boolean ownsExecutor, RandomSource randomSource) {
+    this.executor = executor;
+    this.ownsExecutor = ownsExecutor;
+    this.randomSource = randomSource;
+  }
+
+  private static Thread newDaemonThread(Runnable runnable) {
+    final Thread thread = new Thread(runnable, "equity-calculator");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  EquityCalculator(RandomSource randomSource) {
+    this(Runtime.getRuntime().availableProcessors(), randomSource);
+  }
+
+  /*
+   * Random showdowns are played until the margin of error is at most marginOfError, zScore is i.e. 1.96 for a 95%
+   * confidence interval
+   */
+  void setConfidenceInterval(double zScore, double marginOfError) {
+    this.zScore = zScore;
+    this.marginOfError = marginOfError;
+  }
+
+  void setMaxNumberOfShowdowns(long maxNumberOfShowdowns) {
+    this.maxNumberOfShowdowns = maxNumberOfShowdowns;
+  }
+
+  void setExhaustiveLimit(long exhaustiveLimit) {
+    this.exhaustiveLimit = exhaustiveLimit;
+  }
+
+  Equity calculate(List<Card> privateHand, List<Card> commonHand, int numberOfOpponents) {
+    return calculate(CardSet.toLong(privateHand), CardSet.toLong(commonHand), numberOfOpponents);
+  }
+
+  Equity calculate(long privateCards, long commonCards, int numberOfOpponents) {
+    final RandomSource calculationRandomSource;
+    synchronized (randomSource) {
+      calculationRandomSource = randomSource.split();
+    }
+    return calculate(privateCards, commonCards, numberOfOpponents, calculationRandomSource);
+  }
+
+  private Equity calculate(long privateCards, long commonCards, int numberOfOpponents, RandomSource randomSource) {
+    if (CardSet.size(privateCards) != NUMBER_OF_CARDS_ON_PRIVATE_HAND) {
+      throw new RuntimeException("A private hand has two cards, not [" + CardSet.size(privateCards) + "]");
+    }
+    if ((privateCards & commonCards) != CardSet.NO_CARDS || CardSet.size(commonCards) > NUMBER_OF_COMMON_CARDS) {
+      throw new RuntimeException("Invalid common hand [" + EvaluationHandler.getHandAsString(commonCards) + "]");
+    }
+    final int[] deck = getCardsLeft(privateCards | commonCards);
+    final int missingCommonCards = NUMBER_OF_COMMON_CARDS - CardSet.size(commonCards);
+    if (numberOfOpponents < 1 || missingCommonCards + NUMBER_OF_CARDS_ON_PRIVATE_HAND * numberOfOpponents > deck.length) {
+      throw new RuntimeException("Can not calculate equity against [" + numberOfOpponents + "] opponents");
+    }
+    if (getNumberOfShowdowns(deck.length, missingCommonCards, numberOfOpponents) <= exhaustiveLimit) {
+      final Equity equity = new Equity();
+      enumerateCommonCards(privateCards, commonCards, deck, 0, missingCommonCards, CardSet.NO_CARDS, numberOfOpponents, equity);
+      equity.setExact(true);
+      return equity;
+    }
+    return playRoundsOfRandomShowdowns(privateCards, commonCards, deck, missingCommonCards, numberOfOpponents,
+                                       randomSource);
+  }
+
+  @Override
+  public void close() {
+    if (ownsExecutor) {
+      executor.shutdownNow();
+    }
+  }
+
+  /*
+   * The number of ways to deal the missing common cards and the hands of the opponents
+   */
+  static double getNumberOfShowdowns(int numberOfCardsLeft, int missingCommonCards, int numberOfOpponents) {
+    double numberOfShowdowns = binomial(numberOfCardsLeft, missingCommonCards);
+    int cardsLeft = numberOfCardsLeft - missingCommonCards;
+    for (int opponent = 0; opponent < numberOfOpponents; opponent++) {
+      numberOfShowdowns *= binomial(cardsLeft, NUMBER_OF_CARDS_ON_PRIVATE_HAND);
+      cardsLeft -= NUMBER_OF_CARDS_ON_PRIVATE_HAND;
+    }
+    return numberOfShowdowns;
+  }
+
+  private static double binomial(int n, int k) {
+    double binomial = 1;
+    for (int i = 0; i < k; i++) {
+      binomial = binomial * (n - i) / (i + 1);
+    }
+    return binomial;
+  }
+
+  static int[] getCardsLeft(long dealtCards) {
+    final long cardsLeft = CardSet.ALL_CARDS & ~dealtCards;
+    final int[] deck = new int[CardSet.size(cardsLeft)];
+    int i = 0;
+    for (long cards = cardsLeft; cards != CardSet.NO_CARDS; cards &= cards - 1) {
+      deck[i++] = Long.numberOfTrailingZeros(cards);
+    }
+    return deck;
+  }
+
+  private static void enumerateCommonCards(long privateCards, long commonCards, int[] deck, int firstCard,
+                                           int missingCommonCards, long usedCards, int numberOfOpponents, Equity equity) {
+    if (missingCommonCards == 0) {
+      final int handStrength = HandEvaluator.evaluate(privateCards | commonCards);
+      enumerateOpponents(commonCards, deck, usedCards, numberOfOpponents, handStrength, -1, 0, equity);
+      return;
+    }
+    for (int card = firstCard; card <= deck.length - missingCommonCards; card++) {
+      final long bit = 1L << deck[card];
+      enumerateCommonCards(privateCards, commonCards | bit, deck, card + 1, missingCommonCards - 1, usedCards | bit,
+                           numberOfOpponents, equity);
+    }
+  }
+
+  private static void enumerateOpponents(long commonCards, int[] deck, long usedCards, int opponentsLeft, int handStrength,
+                                         int bestOpponentStrength, int numberOfBestOpponents, Equity equity) {
+    if (opponentsLeft == 0) {
+      addShowdown(handStrength, bestOpponentStrength, numberOfBestOpponents, equity);
+      return;
+    }
+    for (int card = 0; card < deck.length; card++) {
+      final long bit = 1L << deck[card];
+      if ((usedCards & bit) != CardSet.NO_CARDS) {
+        continue;
+      }
+      for (int otherCard = card + 1; otherCard < deck.length; otherCard++) {
+        final long otherBit = 1L << deck[otherCard];
+        if ((usedCards & otherBit) != CardSet.NO_CARDS) {
+          continue;
+        }
+        final int opponentStrength = HandEvaluator.evaluate(bit | otherBit | commonCards);
+        if (opponentStrength > bestOpponentStrength) {
+          enumerateOpponents(commonCards, deck, usedCards | bit | otherBit, opponentsLeft - 1, handStrength,
+                             opponentStrength, 1, equity);
+        } else {
+          enumerateOpponents(commonCards, deck, usedCards | bit | otherBit, opponentsLeft - 1, handStrength,
+                             bestOpponentStrength, numberOfBestOpponents + (opponentStrength == bestOpponentStrength ? 1 : 0),
+                             equity);
+        }
+      }
+    }
+  }
+
+  private static void addShowdown(int handStrength, int bestOpponentStrength, int numberOfBestOpponents, Equity equity) {
+    if (handStrength > bestOpponentStrength) {
+      equity.addWin();
+    } else if (handStrength == bestOpponentStrength) {
+      equity.addTie(numberOfBestOpponents + 1);
+    } else {
+      equity.addLoss();
+    }
+  }
+
+  private Equity playRoundsOfRandomShowdowns(long privateCards, long commonCards, int[] deck, int missingCommonCards,
+                                             int numberOfOpponents, RandomSource randomSource) {
+    final long start = System.nanoTime();
+    final Equity equity = new Equity();
+    try {
+      do {
+        final List<Callable<Equity>> tasks = new ArrayList<>();
+        for (int task = 0; task < TASKS_PER_ROUND; task++) {
+          final RandomSource taskRandomSource = randomSource.split();
+          if (executor == null) {
+            equity.merge(playRandomShowdowns(privateCards, commonCards, deck.clone(), missingCommonCards,
+                                             numberOfOpponents, SHOWDOWNS_PER_TASK, taskRandomSource));
+          } else {
+            tasks.add(() -> playRandomShowdowns(privateCards, commonCards, deck.clone(), missingCommonCards,
+                                                numberOfOpponents, SHOWDOWNS_PER_TASK, taskRandomSource));
+          }
+        }
+        if (executor != null) {
+          for (Future<Equity> result : executor.invokeAll(tasks)) {
+            equity.merge(result.get());
+          }
+        }
+      } while (equity.getMarginOfError(zScore) > marginOfError && equity.getNumberOfShowdowns() < maxNumberOfShowdowns);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Equity calculation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Equity calculation failed", e.getCause());
+    }
+    if (EngineLogging.ENABLED) {
+      logger.debug("{} in [{}] s", equity, (System.nanoTime() - start) / 1e9);
+    }
+    return equity;
+  }
+
+  /*
+   * Plays showdowns on random missing common cards against opponents with random hands, the cards are dealt from deck
+   * which holds the cards left and is shuffled in place
+   */
+  static Equity playRandomShowdowns(long privateCards, long commonCards, int[] deck, int missingCommonCards,
+                                    int numberOfOpponents, int numberOfShowdowns, RandomSource randomSource) {
+    final Equity equity = new Equity();
+    final int numberOfCardsToDeal = missingCommonCards + NUMBER_OF_CARDS_ON_PRIVATE_HAND * numberOfOpponents;
+    for (int showdown = 0; showdown < numberOfShowdowns; showdown++) {
+      // Only the cards that are dealt need to be shuffled
+      for (int i = 0; i < numberOfCardsToDeal; i++) {
+        final int j = i + randomSource.nextInt(deck.length - i);
+        final int card = deck[i];
+        deck[i] = deck[j];
+        deck[j] = card;
+      }
+      long allCommonCards = commonCards;
+      for (int i = 0; i < missingCommonCards; i++) {
+        allCommonCards |= 1L << deck[i];
+      }
+      final int handStrength = HandEvaluator.evaluate(privateCards | allCommonCards);
+      int bestOpponentStrength = -1;
+      int numberOfBestOpponents = 0;
+      for (int i = missingCommonCards; i < numberOfCardsToDeal; i += NUMBER_OF_CARDS_ON_PRIVATE_HAND) {
+        final int opponentStrength = HandEvaluator.evaluate(1L << deck[i] | 1L << deck[i + 1] | allCommonCards);
+        if (opponentStrength > bestOpponentStrength) {
+          bestOpponentStrength = opponentStrength;
+          numberOfBestOpponents = 1;
+        } else if (opponentStrength == bestOpponentStrength) {
+          numberOfBestOpponents++;
+        }
+      }
+      addShowdown(handStrength, bestOpponentStrength, numberOfBestOpponents, equity);
+    }
+    return equity;
+  }
+}
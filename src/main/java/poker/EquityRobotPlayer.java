@@ -0,0 +1,115 @@
+package poker;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static poker.Strategy.ALL_IN;
+import static poker.Strategy.JOIN;
+import static poker.Strategy.JOIN_IF_CHEAP;
+import static poker.Strategy.OFFENSIVE;
+import static poker.Strategy.QUIT;
+
+/*
+ * A robot that decides from the equity of its hand instead of points. The equity is compared with an equal share of
+ * the pot to decide how hard to play, and with the pot odds to decide if it is worth paying to stay in the game.
+ * The raise grows with the pot and the advantage of the hand.
+ */
+class EquityRobotPlayer extends RobotPlayer {
+
+  private static final Logger logger = LogManager.getLogger(EquityRobotPlayer.class);
+  // Equity divided by an equal share of the pot
+  private static final double ALL_IN_ADVANTAGE = 1.6;
+  private static final double OFFENSIVE_ADVANTAGE = 1.3;
+
+  private final PotSummary potSummary;
+  private final EquityService equityService;
+  private double equity;
+  private double advantage;
+  private int maxRaiseFromAPlayer;
+
+  EquityRobotPlayer(String playerName, int totalMarkersPerPlayer, PotHandler potHandler, EquityService equityService) {
+    super(playerName, totalMarkersPerPlayer);
+    this.potSummary = potHandler.getSummary();
+    this.equityService = equityService;
+  }
+
+  @Override
+  public Action decideAction(Draw draw,
+                             int numberOfRemainingPlayers,
+                             List<Card> commonHand,
+                             int blind,
+                             int maxRaiseFromAPlayer,
+                             int maxRaiseThisDraw,
+                             int playersPartInPots) {
+    this.maxRaiseFromAPlayer = maxRaiseFromAPlayer;
+    return super.decideAction(draw, numberOfRemainingPlayers, commonHand, blind, maxRaiseFromAPlayer, maxRaiseThisDraw,
+                              playersPartInPots);
+  }
+
+  @Override
+  public void decideStrategy(Draw draw, int numberOfRemainingPlayers, List<Card> commonHand) {
+    final int numberOfOpponents = Math.max(1, Math.min(PreflopEquity.MAX_NUMBER_OF_OPPONENTS, numberOfRemainingPlayers - 1));
+    equity = equityService.getEquity(getPrivateCards(), CardSet.toLong(commonHand), numberOfOpponents);
+    advantage = equity * (numberOfOpponents + 1);
+    final int amountToCall = getAmountToCall();
+    if (advantage >= ALL_IN_ADVANTAGE) {
+      strategy = ALL_IN;
+    } else if (advantage >= OFFENSIVE_ADVANTAGE) {
+      strategy = OFFENSIVE;
+    } else if (amountToCall > 0 && equity >= getPotOdds(amountToCall)) {
+      // Paying to see the next card wins more than it costs in the long run
+      strategy = JOIN;
+    } else if (amountToCall == 0) {
+      strategy = JOIN_IF_CHEAP;
+    } else {
+      strategy = QUIT;
+    }
+    if (EngineLogging.ENABLED) {
+      logger.debug("Player {} has equity {} advantage {} amount to call {} and strategy {}. ", getName(), equity, advantage,
+                   amountToCall, strategy);
+    }
+  }
+
+  @Override
+  protected int calculateRaiseAmount(int blind) {
+    int raiseAmount;
+    switch (strategy) {
+      case ALL_IN:
+        raiseAmount = getNumberOfMarkers();
+        break;
+      case OFFENSIVE:
+        // Raise a part of the pot that grows with the advantage, at least a blind
+        final int pot = potSummary.getTotal();
+        final int raise = Math.max(blind, (int) (pot * Math.min(1.0, advantage - 1)));
+        raiseAmount = maxRaiseFromAPlayer + raise;
+        break;
+      case JOIN:
+        raiseAmount = maxRaiseFromAPlayer;
+        break;
+      case JOIN_IF_CHEAP:
+        raiseAmount = maxRaiseFromAPlayer <= blind ? maxRaiseFromAPlayer : 0;
+        break;
+      default:
+        raiseAmount = 0;
+        break;
+    }
+    return Math.min(raiseAmount, getNumberOfMarkers());
+  }
+
+  private int getAmountToCall() {
+    return potSummary.getAmountToCall(this);
+  }
+
+  /*
+   * The share of the pot the call has to win to break even
+   */
+  private double getPotOdds(int amountToCall) {
+    return (double) amountToCall / (potSummary.getTotal() + amountToCall);
+  }
+
+  double getEquity() {
+    return equity;
+  }
+}
@@ -0,0 +1,79 @@
+package poker;
+
+/*
+ * Equity lookups for robots. Before the flop the equity comes from the PreflopEquity table, after the flop it is
+ * calculated by an EquityCalculator and kept in a bounded least recently used EquityCache, so a situation seen
+ * before costs no simulation. The cache is keyed by the HandCanonicalizer index, so situations that only differ by a
+ * permutation of the colors share one entry. An equity is kept as a float, which is far finer than the margin of
+ * error of the simulation.
+ *
+ * The cache is shared by all robots at a table and may be used from several threads.
+ */
+class EquityService {
+
+  static final int DEFAULT_CACHE_SIZE = 1 << 16;
+  // A robot needs a rough equity quickly, not an exact one
+  private static final double MARGIN_OF_ERROR = 0.01;
+
+  private final EquityCalculator equityCalculator;
+  private final EquityCache cache;
+  private long numberOfHits;
+  private long numberOfMisses;
+
+  EquityService(EquityCalculator equityCalculator, int cacheSize) {
+    this.equityCalculator = equityCalculator;
+    this.equityCalculator.setConfidenceInterval(EquityCalculator.DEFAULT_Z_SCORE, MARGIN_OF_ERROR);
+    this.cache = new EquityCache(cacheSize);
+  }
+
+  EquityService() {
+    this(new EquityCalculator(1, new SplittableRandomSource()), DEFAULT_CACHE_SIZE);
+  }
+
+  /*
+   * The expected share of the pot for the private cards against a number of opponents with random hands
+   */
+  double getEquity(long privateCards, long commonCards, int numberOfOpponents) {
+    if (commonCards == CardSet.NO_CARDS) {
+      return PreflopEquity.getEquity(privateCards, numberOfOpponents);
+    }
+    final long key = getKey(privateCards, commonCards, numberOfOpponents);
+    synchronized (cache) {
+      final float equity = cache.get(key);
+      if (!Float.isNaN(equity)) {
+        numberOfHits++;
+        return equity;
+      }
+    }
+    // Calculated outside the lock, two threads may calculate the same situation but the cache is never blocked. The
+    // calculator splits a random source for every calculation, so the threads never share a generator.
+    final float equity = (float) equityCalculator.calculate(privateCards, commonCards, numberOfOpponents).getEquity();
+    synchronized (cache) {
+      numberOfMisses++;
+      cache.put(key, equity);
+    }
+    return equity;
+  }
+
+  long getNumberOfHits() {
+    synchronized (cache) {
+      return numberOfHits;
+    }
+  }
+
+  long getNumberOfMisses() {
+    synchronized (cache) {
+      return numberOfMisses;
+    }
+  }
+
+  int getCacheSize() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  private static long getKey(long privateCards, long commonCards, int numberOfOpponents) {
+    return (long) HandCanonicalizer.getIndex(privateCards, commonCards) << Integer.SIZE | numberOfOpponents;
+  }
+}
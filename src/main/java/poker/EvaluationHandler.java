@@ -1,9 +1,5 @@
 package poker;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -17,167 +13,84 @@ public class EvaluationHandler {
   private EvaluationHandler() {}
 
   private static final Logger logger = LogManager.getLogger(EvaluationHandler.class.getName());
-  private static final Integer ACE_VALUE_ONE = 1;
-  private static final int NUMBER_OF_CARDS_IN_HAND = 5;
-  private static final String NO_FLUSH_FOUND = "No flush found.";
+  private static final Ordinal[] ORDINALS = Ordinal.values();
 
-  private static Map<Card, Integer> drawnCardStatistics = new HashMap<>();
-
-  static void initDrawnCardStatistics() {
-    for (Color color : Color.values()) {
-      for (Ordinal ordinal : Ordinal.values()) {
-        drawnCardStatistics.put(new Card(color, ordinal), 0);
-      }
-    }
+  public static Map<Card, PokerResult> evaluateHand(String name, List<Card> cardsInHand) {
+    return evaluateHand(name, CardSet.toLong(cardsInHand));
   }
 
-  public static Map<Card, PokerResult> evaluateHand(String name, List<Card> cardsInHand) {
+  static Map<Card, PokerResult> evaluateHand(String name, long cardsInHand) {
     Map<Card, PokerResult> result = new HashMap<>();
-    Card highestCard = findHighestCardByColor(cardsInHand);
-    if (isRoyalStraightFlush(cardsInHand)) {
-      logger.debug("[" + name + "] got a royal straight flush! [" + printCards(cardsInHand) + "]");
-      result.put(highestCard, new PokerResult(PokerHand.ROYAL_STRAIGHT_FLUSH));
-    } else if (isStraightFlush(cardsInHand)) {
-      logger.debug("[" + name + "] got a straight flush! [" + printCards(cardsInHand) + "]");
-      result.put(highestCardFromStraight(cardsInHand), new PokerResult(PokerHand.STRAIGHT_FLUSH));
-    } else if (isFour(cardsInHand)) {
-      logger.debug("[" + name + "] got a fours! [" + printCards(cardsInHand) + "]");
-      result.put(highestCard, new PokerResult(PokerHand.FOURS));
-    } else if (isFullHouse(cardsInHand)) {
-      logger.debug("[" + name + "] got a full house! [" + printCards(cardsInHand) + "]");
-      result.put(highestCard, new PokerResult(PokerHand.FULL_HOUSE));
-    } else if (isFlush(cardsInHand)) {
-      logger.debug("[" + name + "] got a flush! [" + printCards(cardsInHand) + "]");
-      result.put(highestCard, new PokerResult(PokerHand.FLUSH));
-    } else if (isStraight(cardsInHand)) {
-      logger.debug("[" + name + "] got a straight! [" + printCards(cardsInHand) + "]");
-      result.put(highestCardFromStraight(cardsInHand), new PokerResult(PokerHand.STRAIGHT));
-    } else if (isTripple(cardsInHand)) {
-      logger.debug("[" + name + "] got a threes! [" + printCards(cardsInHand) + "]");
-      result.put(highestCard, new PokerResult(PokerHand.THREES));
-    } else if (isTwoPair(cardsInHand)) {
-      logger.debug("[" + name + "] got two pair! [" + printCards(cardsInHand) + "]");
-      result.put(highestCard, new PokerResult(PokerHand.TWO_PAIR));
-    } else if (isOnePair(cardsInHand)) {
-      logger.debug("[" + name + "] got a pair! [" + printCards(cardsInHand) + "]");
-      result.put(highestCard,
-                 new PokerResult(
-                   PokerHand.PAIR,
-                   getPokerResultPointsFromPair(cardsInHand)
-                 )
-      );
-    } else {
-      logger.debug("[" + name + "]:s hand [" + printCards(cardsInHand) + "] did not give any money");
-      result.put(highestCard,
-                 new PokerResult(
-                   PokerHand.NO_RESULT,
-                   getPokerResultPointsFromNoResult(highestCard)
-                 )
-      );
+    final int handStrength = HandEvaluator.evaluate(cardsInHand);
+    final PokerHand pokerHand = HandEvaluator.getPokerHand(handStrength);
+    if (EngineLogging.ENABLED) {
+      logger.debug("[{}] got {} [{}]", name, pokerHand, printCards(CardSet.toList(cardsInHand)));
+    }
+    final Card highestCard = cardsInHand == CardSet.NO_CARDS ? getLeastValueableCard() : CardSet.getHighestCard(cardsInHand);
+    switch (pokerHand) {
+      case STRAIGHT_FLUSH:
+      case STRAIGHT:
+        result.put(highestCardFromStraight(cardsInHand), new PokerResult(pokerHand, pokerHand.getValue(), handStrength));
+        break;
+      case PAIR:
+      case NO_RESULT:
+        // Points are the value of the pair or the highest card
+        result.put(highestCard, new PokerResult(pokerHand, HandEvaluator.getTopOrdinalValue(handStrength), handStrength));
+        break;
+      default:
+        result.put(highestCard, new PokerResult(pokerHand, pokerHand.getValue(), handStrength));
+        break;
     }
     return result;
   }
 
-  private static int getPokerResultPointsFromNoResult(Card highestCard) {
-    // TODO: Find possible straights and flushes
-    return highestCard.getOrdinal().getValue();
-  }
-
-  private static int getPokerResultPointsFromPair(List<Card> cardsInHand) {
-    // Find value of pair
-    for (Card card : cardsInHand) {
-      List<Card> restOfHand = new ArrayList<>(cardsInHand);
-      restOfHand.remove(card);
-      for (Card cardFromRestOfHand : restOfHand) {
-        if (cardFromRestOfHand.getOrdinal().equals(card.getOrdinal())) {
-          return card.getOrdinal().getValue();
-        }
-      }
-    }
-    throw new RuntimeException("Did not find any pair in this hand:");
-  }
-
-  private static boolean isRoyalStraightFlush(List<Card> cardsInHand) {
-    if (isStraightFlush(cardsInHand) && isFlushOfHearts(cardsInHand) &&
-        highestCardFromStraight(cardsInHand).equals(new Card(Color.hearts, Ordinal.ace))) {
-      return true;
-    } else {
-      return false;
-    }
+  /*
+   * The rank of a hand, see HandEvaluator. Unlike evaluateHand nothing is allocated, use the decode methods below to
+   * get the poker hand, top card and points from it.
+   */
+  static int rank(long cardsInHand) {
+    return HandEvaluator.evaluate(cardsInHand);
   }
 
-  private static boolean isFlushOfHearts(List<Card> cardsInHand) {
-    boolean isFlushOf = false;
-    try {
-      if (returnFlushColor(cardsInHand).equals(Color.hearts)) {
-        isFlushOf = true;
-      }
-    } catch (Exception e) {
-      checkExceptionMessage(e);
-    }
-    return isFlushOf;
+  static PokerHand getPokerHand(int rank) {
+    return HandEvaluator.getPokerHand(rank);
   }
 
-  static Card highestCardFromStraight(List<Card> cardsInHand) {
-    List<Integer> valueList = new ArrayList<>();
-    int highestOrdinalValue = 0;
-
-    for (Card card : cardsInHand) {
-      // Special handling for ace, is considered both value 1 and 14. Add one card of both
-      if (card.getOrdinal() == Ordinal.ace) {
-        valueList.add(ACE_VALUE_ONE);
-      }
-      valueList.add(card.getOrdinal().getValue());
-    }
-    Collections.sort(valueList);
-    int oldValue = 99;
-    int straightCounter = 1;
-    for (Integer value : valueList) {
-      logger.trace("checking if value:[" + value + "] is part of a straight.");
-      if (value == (oldValue + 1)) {
-        straightCounter++;
-        highestOrdinalValue = value;
-        logger.trace("Value:{{}} could be part of a possible straight. Straight counter:{{}}", value, straightCounter);
-        if (straightCounter >= NUMBER_OF_CARDS_IN_HAND) {
-          logger.debug("Highest ordinal in straight:[" + value + "]");
-        }
-      } else if (value == oldValue) {
-        // Do nothing
-      } else {
-        logger.trace("Value:[" + value + "] could be the lowest card in a straight.");
-        straightCounter = 1;
-      }
-      oldValue = value;
-    }
-    Card highestCard = null;
-    for (Card card : cardsInHand) {
-      if (card.getOrdinal().getValue() == highestOrdinalValue) {
-        highestCard = card;
-      }
-    }
-    return highestCard;
+  /*
+   * The ordinal deciding the hand, i.e. the pair in a pair or the highest card in a straight. The hand must not be empty
+   */
+  static Ordinal getTopOrdinal(int rank) {
+    return ORDINALS[HandEvaluator.getTopOrdinalValue(rank) - Ordinal.two.getValue()];
   }
 
-  private static Card findHighestCardByColor(List<Card> cardsInHand) {
-    Card highestCard = new Card(Color.clubs, Ordinal.two);
-    for (Card card : cardsInHand) {
-      if (card.getOrdinal().getValue() > highestCard.getOrdinal().getValue()) {
-        highestCard = card;
-      } else if (card.getOrdinal().getValue() == highestCard.getOrdinal().getValue()) {
-        if (isColorOfCardHigherThanColorOfHighestCard(highestCard, card)) {
-          highestCard = card;
-        }
-      }
+  /*
+   * The same points as PokerResult.getPoints() of the result from evaluateHand
+   */
+  static int getPoints(int rank) {
+    final PokerHand pokerHand = getPokerHand(rank);
+    switch (pokerHand) {
+      case PAIR:
+      case NO_RESULT:
+        return pokerHand.getValue() + HandEvaluator.getTopOrdinalValue(rank);
+      default:
+        return 2 * pokerHand.getValue();
     }
-    return highestCard;
   }
 
-  private static boolean isColorOfCardHigherThanColorOfHighestCard(Card highestCard, Card card) {
-    return card.getColor().getValue() > highestCard.getColor().getValue();
+  /*
+   * The highest card that has a card of the ordinal below it, ace also counts as the ordinal below two
+   */
+  private static Card highestCardFromStraight(long cardsInHand) {
+    final int ranks = CardSet.getColorMask(cardsInHand, Color.clubs) | CardSet.getColorMask(cardsInHand, Color.diamonds)
+                      | CardSet.getColorMask(cardsInHand, Color.spades) | CardSet.getColorMask(cardsInHand, Color.hearts);
+    final int aceAsOne = ranks >>> (HandEvaluator.NUMBER_OF_RANKS - 1) & 1;
+    final int ranksWithCardBelow = ranks & (ranks << 1 | aceAsOne);
+    final Ordinal highestOrdinal = ORDINALS[Integer.SIZE - 1 - Integer.numberOfLeadingZeros(ranksWithCardBelow)];
+    return CardSet.getHighestCard(cardsInHand & CardSet.getOrdinalMask(highestOrdinal));
   }
 
-  private static boolean isOnePair(List<Card> cardsInHand) {
-    return countPair(cardsInHand) == 1;
+  static Card highestCardFromStraight(List<Card> cardsInHand) {
+    return highestCardFromStraight(CardSet.toLong(cardsInHand));
   }
 
   /*
@@ -191,197 +104,8 @@ public class EvaluationHandler {
     return buffer.toString();
   }
 
-  private static boolean isStraight(List<Card> cardsInHand) {
-    boolean isStraight = false;
-    if (cardsInHand.size() >= NUMBER_OF_CARDS_IN_HAND) {
-      List<Integer> valueList = new ArrayList<>();
-      for (Card card : cardsInHand) {
-        // Special handling for ace, is considered both value 1 and 14. Add one card of both
-        if (card.getOrdinal() == Ordinal.ace) {
-          valueList.add(ACE_VALUE_ONE);
-        }
-        valueList.add(card.getOrdinal().getValue());
-      }
-      Collections.sort(valueList);
-      int oldValue = valueList.get(0) - 1;
-      int straightCounter = 0;
-      for (Integer value : valueList) {
-        logger.trace("checking if value:[" + value + "] is part of a straight.");
-        if (value == (oldValue + 1)) {
-          straightCounter++;
-          logger.trace("Value:[" + value + "] could be part of a possible straight. Straight counter:[" + straightCounter + "]");
-        } else {
-          logger.trace("Value:[" + value + "] could be the lowest card in a straight.");
-          straightCounter = 1;
-        }
-        oldValue = value;
-        if (straightCounter >= NUMBER_OF_CARDS_IN_HAND) {
-          isStraight = true;
-          logger.trace("Got a straight.");
-        }
-      }
-    }
-    return isStraight;
-  }
-
-  private static boolean isFlush(List<Card> cardsInHand) {
-    boolean isFlush = false;
-    try {
-      returnFlushColor(cardsInHand);
-      isFlush = true;
-    } catch (Exception e) {
-      checkExceptionMessage(e);
-    }
-    return isFlush;
-  }
-
-  private static void checkExceptionMessage(Exception e) {
-    if (e.getMessage().equals(NO_FLUSH_FOUND)) {
-      logger.trace(NO_FLUSH_FOUND);
-    } else {
-      throw new RuntimeException("Unexcpected exception received from returnFlushColor");
-    }
-  }
-
-  private static Color returnFlushColor(List<Card> cardsInHand)  {
-    Color flushColor = null;
-    if (cardsInHand.size() >= NUMBER_OF_CARDS_IN_HAND) {
-      Map<Color, Integer> flushChecker = new EnumMap<>(Color.class);
-      initFlushChecker(flushChecker);
-      for (Card card : cardsInHand) {
-        int oldValue = flushChecker.get(card.getColor());
-        flushChecker.put(card.getColor(), ++oldValue);
-        logger.trace("FlushCheck:[" + card.getColor().toString() + "] no:[" + oldValue + "]");
-      }
-      for (Color color : Color.values()) {
-        if (flushChecker.get(color) == NUMBER_OF_CARDS_IN_HAND) {
-          flushColor = color;
-          logger.debug("Got a flush of:[" + color + "]");
-        }
-      }
-    }
-    if (flushColor == null) {
-      throw new RuntimeException("No flush found.");
-    }
-    return flushColor;
-  }
-
-  private static void initFlushChecker(Map<Color, Integer> flushChecker) {
-    Arrays.stream(Color.values()).forEach(e -> flushChecker.put(e, 0));
-  }
-
-  private static boolean isTwoPair(List<Card> cardsInHand) {
-    return countPair(cardsInHand) == 2;
-  }
-
-  private static int countPair(List<Card> cardsInHand) {
-    Map<Multiple, Integer> multiple = getMultiple(cardsInHand);
-    Set<Multiple> keySet = multiple.keySet();
-    int numberOfPairs = 0;
-    for (Multiple key : keySet) {
-      if (key == Multiple.PAIR) {
-        numberOfPairs = multiple.get(key);
-        logger.trace("Found a pair");
-      }
-    }
-    return numberOfPairs;
-  }
-
-  private static boolean isFullHouse(List<Card> cardsInHand) {
-    return hasMultiple(cardsInHand, Multiple.THREES) && hasMultiple(cardsInHand, Multiple.PAIR)
-           && (cardsInHand.size() >= NUMBER_OF_CARDS_IN_HAND);
-  }
-
-  private static boolean isTripple(List<Card> cardsInHand) {
-    return hasMultiple(cardsInHand, Multiple.THREES);
-  }
-
-  private static boolean isFour(List<Card> cardsInHand) {
-    return hasMultiple(cardsInHand, Multiple.FOURS);
-  }
-
-  private static boolean hasMultiple(List<Card> cardsInHand, Multiple expectedMultiple) {
-    Map<Multiple, Integer> multiple = getMultiple(cardsInHand);
-    Set<Multiple> keySet = multiple.keySet();
-    boolean hasMultiple = false;
-    for (Multiple key : keySet) {
-      if (key.getValue() == expectedMultiple.getValue()) {
-        hasMultiple = true;
-      }
-    }
-    return hasMultiple;
-  }
-
-  private static boolean isStraightFlush(List<Card> cardsInHand) {
-    return isStraight(cardsInHand) && isFlush(cardsInHand) && (cardsInHand.size() >= NUMBER_OF_CARDS_IN_HAND);
-  }
-
-  private static Map<Multiple, Integer> getMultiple(List<Card> cardsInHand) {
-    Map<Multiple, Integer> multiple = new EnumMap<>(Multiple.class);
-    Map<Integer, Integer> possiblePair = initPossiblePairMap(cardsInHand);
-    List<Card> restOfHand = new ArrayList<>(cardsInHand);
-    for (Card card : cardsInHand) {
-      boolean isSuccesful = restOfHand.remove(card);
-      if (!isSuccesful) {
-        throw new RuntimeException(
-          "Unable to remove card:[" + card.toString() + "] from hand [" + printCards(restOfHand) + "]");
-      }
-      for (Card restOfCard : restOfHand) {
-        if (restOfCard.getOrdinal() == card.getOrdinal()) {
-          int totalCount = possiblePair.get(card.getOrdinal().getValue());
-          possiblePair.put(card.getOrdinal().getValue(), ++totalCount);
-          logger.trace("Found multiple of:[" + card.getOrdinal().getValue() + "]");
-          logger.trace("putting:[" + card.getOrdinal().getValue() + "] to possiblepair, count[" + totalCount
-                       + "]");
-          break; // For threes and fours we will get double hits if we continue
-        }
-      }
-    }
-    int ones = 0;
-    int pairs = 0;
-    int threes = 0;
-    int fours = 0;
-    Set<Integer> keySet = possiblePair.keySet();
-    label:
-    for (Integer key : keySet) {
-      Integer value = possiblePair.get(key);
-      switch (value.toString()) {
-        case "4":
-          fours++;
-          // No need to check more cards
-          break label;
-        case "3":
-          threes++;
-          break;
-        case "2":
-          pairs++;
-          break;
-        case "1":
-          ones++;
-          break;
-        default:
-          throw new RuntimeException("We got 5 of [" + key.toString() + "]");
-      }
-    }
-    if (fours != 0) {
-      multiple.put(Multiple.FOURS, fours);
-    }
-    if (threes != 0) {
-      multiple.put(Multiple.THREES, threes);
-    }
-    if (pairs != 0) {
-      multiple.put(Multiple.PAIR, pairs);
-    }
-    if (ones != 0) {
-      multiple.put(Multiple.SINGLE, ones);
-    }
-    return multiple;
-  }
-
-  private static Map<Integer, Integer> initPossiblePairMap(List<Card> cardsInHand) {
-    Map<Integer, Integer> possiblePairMap = new HashMap<>();
-    cardsInHand.forEach(e -> possiblePairMap.put(e.getOrdinal().getValue(), 1));
-    return possiblePairMap;
+  static String getHandAsString(long cards) {
+    return getHandAsString(CardSet.toList(cards));
   }
 
   static String getHandAsString(List<Card> privateHand) {
@@ -392,7 +116,9 @@ public class EvaluationHandler {
 
   static Card getTopCardFromResult(Map<Card, PokerResult> result) {
     Set<Card> cardSet = result.keySet();
-    logger.debug("checking card:[" + cardSet.toString() + "]");
+    if (EngineLogging.ENABLED) {
+      logger.debug("checking card:[{}]", cardSet);
+    }
     Iterator<Card> iterator = cardSet.iterator();
     Card topCard = getLeastValueableCard();
     while (iterator.hasNext()) {
@@ -438,35 +164,11 @@ public class EvaluationHandler {
     return result.get(topCard);
   }
 
-  public static int getNumberOfDrawnCardsWithOrdinal() {
-    int numberOfCards = 0;
-    for (Color color : Color.values()) {
-      for (Ordinal ordinal : Ordinal.values()) {
-        numberOfCards += drawnCardStatistics.get(new Card(color, ordinal));
-      }
-    }
-    return numberOfCards;
-  }
-
-  public static int getNumberOfDrawnCardsWithColor(Color requestedColor) {
-    int numberOfColor = 0;
-    for (Ordinal ordinal : Ordinal.values()) {
-      numberOfColor += drawnCardStatistics.get(new Card(requestedColor, ordinal));
-    }
-    return numberOfColor;
-  }
-
-  static void updateDrawnCardStatistics(Card drawnCard) {
-    int numberOfDrawnTimes = drawnCardStatistics.get(drawnCard);
-    drawnCardStatistics.put(drawnCard, ++numberOfDrawnTimes);
-  }
-
-  public static int getNumberOfOrdinal(Ordinal requestedOrdinal) {
-    int numberOfOrdinal = 0;
-    for (Color color : Color.values()) {
-      numberOfOrdinal += drawnCardStatistics.get(new Card(color, requestedOrdinal));
-    }
-    return numberOfOrdinal;
+  /*
+   * The rank of the hand with all kickers, a higher rank wins and equal ranks split the pot
+   */
+  static int getRankFromCardPokerResultMap(Map<Card, PokerResult> result) {
+    return getResultFromCardPokerResultMap(result).getRank();
   }
 
   public static int calculatePointsFromHand(Map<Card, PokerResult> cardPokerResultMap) {
@@ -479,7 +181,7 @@ public class EvaluationHandler {
     return pokerResult.getPoints();
   }
 
-  static String calculateResultFromHand(List<Card> totalHand) {
+  static String calculateResultFromHand(long totalHand) {
     final Map<Card, PokerResult> cardPokerResultMap = evaluateHand("Player", totalHand);
     final Iterator<Map.Entry<Card, PokerResult>> iterator = cardPokerResultMap.entrySet().iterator();
     StringBuilder result = new StringBuilder();
@@ -0,0 +1,42 @@
+package poker;
+
+import java.util.List;
+
+/*
+ * Receives what happens in a game. The game itself never writes to the console, a ConsoleGameListener prints the
+ * events for the interactive game and SILENT ignores them so robot tournaments can run without any output.
+ *
+ * Every event has an empty default so a listener only implements the events it is interested in.
+ */
+public interface GameListener {
+
+  GameListener SILENT = new GameListener() {};
+
+  default void roundStarted(int littleBlind, int bigBlind) {}
+
+  default void blindPaid(Player player, int blindAmount, boolean isBigBlind) {}
+
+  default void blindAllIn(Player player, int blindAmount, int allInAmount) {}
+
+  default void drawStarted(Draw draw) {}
+
+  /*
+   * The private and common cards of a human player and their rank, see EvaluationHandler.rank
+   */
+  default void handShown(Player player, long cards, int rank) {}
+
+  default void actionDecided(Player player, Action action) {}
+
+  default void markersPaidToPot(Player player, int amount) {}
+
+  /*
+   * A player still in the game at the showdown, the rank is the best rank of the players
+   */
+  default void handShownDown(Player player, long cards, int rank, int highScore) {}
+
+  default void potWon(Player player, int rank, int amount) {}
+
+  default void roundFinished(List<Player> players) {}
+
+  default void gameWon(Player player) {}
+}
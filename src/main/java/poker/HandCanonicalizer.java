@@ -0,0 +1,120 @@
+package poker;
+
+/*
+ * Maps private and common cards to a canonical representative of all hands that only differ by a permutation of the
+ * colors, which play the same in every way. The colors are sorted by their private cards and then by their common
+ * cards, the color that sorts first becomes hearts, then spades, diamonds and clubs. Two hands get the same
+ * canonical cards exactly when one is a color permutation of the other.
+ *
+ * The index of a hand is a stable int below NUMBER_OF_INDEXES that identifies the canonical hand and is meant as a
+ * cache key. The index is the starting hand class of the canonical private cards and the colex rank of the canonical
+ * common cards among the other 50 cards, so with no common cards it is the starting hand class used by PreflopEquity.
+ * After the flop the index is sparse: NUMBER_OF_INDEXES is 169 times the sum of C(50, k) for k up to 5, about 4 * 10^8,
+ * while there are 1286792 canonical flops, 13960050 turns and 123156254 rivers, roughly a third of the indexes of
+ * each street. A table with an entry per index would mostly hold unused entries, so the index is not meant for one.
+ */
+final class HandCanonicalizer {
+  private HandCanonicalizer() {}
+
+  private static final Color[] COLORS = Color.values();
+  private static final int NUMBER_OF_COLORS = COLORS.length;
+  private static final int BITS_PER_COLOR = 2;
+  private static final int COLOR_MASK = (1 << BITS_PER_COLOR) - 1;
+  private static final int NUMBER_OF_CARDS_ON_PRIVATE_HAND = 2;
+  private static final int MAX_NUMBER_OF_COMMON_CARDS = 5;
+  private static final int NUMBER_OF_CARDS_LEFT = NUMBER_OF_COLORS * HandEvaluator.NUMBER_OF_RANKS - NUMBER_OF_CARDS_ON_PRIVATE_HAND;
+
+  private static final int[][] BINOMIAL = new int[NUMBER_OF_CARDS_LEFT + 1][MAX_NUMBER_OF_COMMON_CARDS + 1];
+  // First index of the hands with a number of common cards
+  private static final int[] FIRST_INDEX = new int[MAX_NUMBER_OF_COMMON_CARDS + 2];
+
+  static {
+    for (int n = 0; n <= NUMBER_OF_CARDS_LEFT; n++) {
+      BINOMIAL[n][0] = 1;
+      for (int k = 1; k <= Math.min(n, MAX_NUMBER_OF_COMMON_CARDS); k++) {
+        BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k < n ? BINOMIAL[n - 1][k] : 0);
+      }
+    }
+    for (int numberOfCommonCards = 0; numberOfCommonCards <= MAX_NUMBER_OF_COMMON_CARDS; numberOfCommonCards++) {
+      FIRST_INDEX[numberOfCommonCards + 1] = FIRST_INDEX[numberOfCommonCards]
+          + PreflopEquity.NUMBER_OF_CLASSES * BINOMIAL[NUMBER_OF_CARDS_LEFT][numberOfCommonCards];
+    }
+  }
+
+  static final int NUMBER_OF_INDEXES = FIRST_INDEX[MAX_NUMBER_OF_COMMON_CARDS + 1];
+
+  /*
+   * The canonical color value of every color, two bits per color at bit 2 * color value. Colors that sort equal
+   * keep their order.
+   */
+  static int getColorPermutation(long privateCards, long commonCards) {
+    int permutation = 0;
+    for (Color color : COLORS) {
+      final int sortKey = getSortKey(privateCards, commonCards, color);
+      int numberOfColorsBefore = 0;
+      for (Color otherColor : COLORS) {
+        final int otherSortKey = getSortKey(privateCards, commonCards, otherColor);
+        if (otherSortKey > sortKey || otherSortKey == sortKey && otherColor.getValue() > color.getValue()) {
+          numberOfColorsBefore++;
+        }
+      }
+      permutation |= NUMBER_OF_COLORS - 1 - numberOfColorsBefore << BITS_PER_COLOR * color.getValue();
+    }
+    return permutation;
+  }
+
+  static long permute(long cards, int permutation) {
+    long permutedCards = CardSet.NO_CARDS;
+    for (Color color : COLORS) {
+      permutedCards |= (long) CardSet.getColorMask(cards, color) << CardSet.getBitIndex(getColorValue(permutation, color), 0);
+    }
+    return permutedCards;
+  }
+
+  static int getIndex(long privateCards, long commonCards) {
+    final int numberOfCommonCards = CardSet.size(commonCards);
+    if (CardSet.size(privateCards) != NUMBER_OF_CARDS_ON_PRIVATE_HAND) {
+      throw new RuntimeException("A private hand has two cards, not [" + CardSet.size(privateCards) + "]");
+    }
+    if ((privateCards & commonCards) != CardSet.NO_CARDS || numberOfCommonCards > MAX_NUMBER_OF_COMMON_CARDS) {
+      throw new RuntimeException("Invalid common hand [" + EvaluationHandler.getHandAsString(commonCards) + "]");
+    }
+    final int permutation = getColorPermutation(privateCards, commonCards);
+    final long canonicalPrivateCards = permute(privateCards, permutation);
+    final long canonicalCommonCards = permute(commonCards, permutation);
+    // Every starting hand class has one canonical private hand, so the class and the common cards identify the hand
+    return FIRST_INDEX[numberOfCommonCards]
+        + PreflopEquity.getStartingHandClass(canonicalPrivateCards) * BINOMIAL[NUMBER_OF_CARDS_LEFT][numberOfCommonCards]
+        + getColexIndex(canonicalCommonCards, canonicalPrivateCards);
+  }
+
+  static int getFirstIndex(int numberOfCommonCards) {
+    return FIRST_INDEX[numberOfCommonCards];
+  }
+
+  /*
+   * Colex rank of the cards among the cards that are not excluded, cards are numbered without the unused lane bits
+   */
+  private static int getColexIndex(long cards, long excludedCards) {
+    int colexIndex = 0;
+    int k = 1;
+    for (long cardsLeft = cards; cardsLeft != CardSet.NO_CARDS; cardsLeft &= cardsLeft - 1) {
+      final int bitIndex = Long.numberOfTrailingZeros(cardsLeft);
+      final int cardNumber = CardSet.getColorValue(bitIndex) * HandEvaluator.NUMBER_OF_RANKS + CardSet.getRank(bitIndex);
+      final int position = cardNumber - Long.bitCount(excludedCards & (1L << bitIndex) - 1);
+      colexIndex += BINOMIAL[position][k++];
+    }
+    return colexIndex;
+  }
+
+  /*
+   * Private cards decide the order before common cards, so the canonical private cards only depend on the class
+   */
+  private static int getSortKey(long privateCards, long commonCards, Color color) {
+    return CardSet.getColorMask(privateCards, color) << HandEvaluator.NUMBER_OF_RANKS | CardSet.getColorMask(commonCards, color);
+  }
+
+  private static int getColorValue(int permutation, Color color) {
+    return permutation >>> BITS_PER_COLOR * color.getValue() & COLOR_MASK;
+  }
+}
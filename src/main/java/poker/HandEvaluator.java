@@ -0,0 +1,245 @@
+package poker;
+
+import java.util.List;
+
+/*
+ * Table driven hand evaluator.
+ *
+ * A hand is described by one 13 bit rank mask per color where bit 0 is two and bit 12 is ace. The best five card
+ * hand found among the cards is returned as one int hand strength:
+ *
+ *   category << 20 | first << 16 | second << 12 | third << 8 | fourth << 4 | fifth
+ *
+ * category is the PokerHand value / 100 and first..fifth are the ordinal values of the cards deciding the hand, most
+ * significant first (the pair before its kickers, the threes before the pair in a full house etc.). A higher int is
+ * always a better hand and two hands with the same int are equally good.
+ *
+ * Straights, flushes and kickers are looked up in tables indexed by a rank mask, so any hand with up to seven cards
+ * is evaluated with a few array lookups and bit operations.
+ */
+class HandEvaluator {
+  private HandEvaluator() {}
+
+  static final int NUMBER_OF_RANKS = 13;
+  private static final int RANK_MASK_SIZE = 1 << NUMBER_OF_RANKS;
+  private static final int ORDINAL_VALUE_OF_LOWEST_RANK = Ordinal.two.getValue();
+  private static final int NUMBER_OF_CARDS_IN_HAND = 5;
+  private static final int CATEGORY_SHIFT = 20;
+  private static final int FIRST_CARD_SHIFT = 16;
+  private static final int CARD_BITS = 4;
+  private static final int CARD_MASK = 0xF;
+
+  static final int NO_RESULT = 0;
+  static final int PAIR = 1;
+  static final int TWO_PAIR = 2;
+  static final int THREES = 3;
+  static final int STRAIGHT = 4;
+  static final int FLUSH = 5;
+  static final int FULL_HOUSE = 6;
+  static final int FOURS = 7;
+  static final int STRAIGHT_FLUSH = 8;
+  static final int ROYAL_STRAIGHT_FLUSH = 9;
+
+  // Ordinal value of the highest card of the highest straight in a rank mask, 0 if the mask holds no straight
+  private static final int[] STRAIGHT_TABLE = new int[RANK_MASK_SIZE];
+  // The ordinal values of the five highest cards in a rank mask, packed as kickers from bit 16 and down
+  private static final int[] TOP_FIVE_CARDS_TABLE = new int[RANK_MASK_SIZE];
+  // Ordinal value of the highest card in a rank mask, 0 for an empty mask
+  private static final int[] TOP_CARD_TABLE = new int[RANK_MASK_SIZE];
+  private static final PokerHand[] POKER_HANDS = new PokerHand[ROYAL_STRAIGHT_FLUSH + 1];
+
+  static {
+    for (int rankMask = 0; rankMask < RANK_MASK_SIZE; rankMask++) {
+      STRAIGHT_TABLE[rankMask] = findHighestStraight(rankMask);
+      TOP_FIVE_CARDS_TABLE[rankMask] = findTopFiveCards(rankMask);
+      TOP_CARD_TABLE[rankMask] = TOP_FIVE_CARDS_TABLE[rankMask] >>> FIRST_CARD_SHIFT;
+    }
+    for (PokerHand pokerHand : PokerHand.values()) {
+      POKER_HANDS[pokerHand.getValue() / 100] = pokerHand;
+    }
+  }
+
+  private static int findHighestStraight(int rankMask) {
+    final int fiveInARow = (1 << NUMBER_OF_CARDS_IN_HAND) - 1;
+    for (int lowestRank = NUMBER_OF_RANKS - NUMBER_OF_CARDS_IN_HAND; lowestRank >= 0; lowestRank--) {
+      if (((rankMask >>> lowestRank) & fiveInARow) == fiveInARow) {
+        return lowestRank + NUMBER_OF_CARDS_IN_HAND - 1 + ORDINAL_VALUE_OF_LOWEST_RANK;
+      }
+    }
+    // Ace is also considered value 1, ace to five is the lowest straight
+    final int aceToFive = 1 << (NUMBER_OF_RANKS - 1) | (1 << (NUMBER_OF_CARDS_IN_HAND - 1)) - 1;
+    if ((rankMask & aceToFive) == aceToFive) {
+      return Ordinal.five.getValue();
+    }
+    return 0;
+  }
+
+  private static int findTopFiveCards(int rankMask) {
+    int topFiveCards = 0;
+    int shift = FIRST_CARD_SHIFT;
+    for (int rank = NUMBER_OF_RANKS - 1; rank >= 0 && shift >= 0; rank--) {
+      if ((rankMask & (1 << rank)) != 0) {
+        topFiveCards |= (rank + ORDINAL_VALUE_OF_LOWEST_RANK) << shift;
+        shift -= CARD_BITS;
+      }
+    }
+    return topFiveCards;
+  }
+
+  static int evaluate(List<Card> cards) {
+    return evaluate(CardSet.toLong(cards));
+  }
+
+  /*
+   * Evaluates up to seven cards given as a CardSet long
+   */
+  static int evaluate(long cards) {
+    return evaluate(CardSet.getColorMask(cards, Color.clubs),
+                    CardSet.getColorMask(cards, Color.diamonds),
+                    CardSet.getColorMask(cards, Color.spades),
+                    CardSet.getColorMask(cards, Color.hearts));
+  }
+
+  /*
+   * Evaluates up to seven cards given as one rank mask per color.
+   */
+  static int evaluate(int clubs, int diamonds, int spades, int hearts) {
+    final int ranks = clubs | diamonds | spades | hearts;
+    final int numberOfRanks = Integer.bitCount(ranks);
+    final int numberOfCards = Integer.bitCount(clubs) + Integer.bitCount(diamonds) + Integer.bitCount(spades)
+                              + Integer.bitCount(hearts);
+    final int flushColor = numberOfRanks >= NUMBER_OF_CARDS_IN_HAND ? findFlushColor(clubs, diamonds, spades, hearts) : 0;
+    return evaluate(clubs, diamonds, spades, hearts, ranks, numberOfCards - numberOfRanks, flushColor);
+  }
+
+  /*
+   * Evaluates up to seven cards when the rank mask of all colors, the number of cards minus the number of ranks and
+   * the rank mask of a color with five cards or more (0 if there is none) are already known, i.e. kept up to date by
+   * a HandState as cards are added.
+   */
+  static int evaluate(int clubs, int diamonds, int spades, int hearts, int ranks, int duplicates, int flushColor) {
+    int flushOrStraight = 0;
+    if (flushColor != 0) {
+      final int highestCardInStraightFlush = STRAIGHT_TABLE[flushColor];
+      if (highestCardInStraightFlush != 0) {
+        return straightFlush(highestCardInStraightFlush);
+      }
+      flushOrStraight = FLUSH << CATEGORY_SHIFT | TOP_FIVE_CARDS_TABLE[flushColor];
+    } else if (STRAIGHT_TABLE[ranks] != 0) {
+      flushOrStraight = STRAIGHT << CATEGORY_SHIFT | STRAIGHT_TABLE[ranks] << FIRST_CARD_SHIFT;
+    }
+    // Fours and full house need at least three duplicates, nothing else beats a flush or a straight
+    if (flushOrStraight != 0 && duplicates < 3) {
+      return flushOrStraight;
+    }
+
+    // A rank found an even number of times is cleared by xor
+    final int oddRanks = clubs ^ diamonds ^ spades ^ hearts;
+    switch (duplicates) {
+      case 0:
+        return TOP_FIVE_CARDS_TABLE[ranks];
+      case 1: {
+        final int pair = ranks ^ oddRanks;
+        return PAIR << CATEGORY_SHIFT
+               | TOP_CARD_TABLE[pair] << FIRST_CARD_SHIFT
+               | (TOP_FIVE_CARDS_TABLE[ranks ^ pair] >>> CARD_BITS) & 0xFFF0;
+      }
+      case 2: {
+        final int pairs = ranks ^ oddRanks;
+        if (pairs != 0) {
+          return twoPair(ranks, pairs);
+        }
+        final int threes = findThrees(clubs, diamonds, spades, hearts);
+        return THREES << CATEGORY_SHIFT
+               | TOP_CARD_TABLE[threes] << FIRST_CARD_SHIFT
+               | (TOP_FIVE_CARDS_TABLE[ranks ^ threes] >>> CARD_BITS) & 0xFF00;
+      }
+      default: {
+        final int fours = clubs & diamonds & spades & hearts;
+        if (fours != 0) {
+          return FOURS << CATEGORY_SHIFT
+                 | TOP_CARD_TABLE[fours] << FIRST_CARD_SHIFT
+                 | TOP_CARD_TABLE[ranks ^ fours] << (FIRST_CARD_SHIFT - CARD_BITS);
+        }
+        final int pairs = ranks ^ oddRanks;
+        if (Integer.bitCount(pairs) != duplicates) {
+          // Each threes counts as two duplicates, so there is at least one threes and another pair or threes
+          final int threes = findThrees(clubs, diamonds, spades, hearts);
+          final int threesCard = TOP_CARD_TABLE[threes];
+          final int pairCard = TOP_CARD_TABLE[(pairs | threes) ^ rankBit(threesCard)];
+          return FULL_HOUSE << CATEGORY_SHIFT
+                 | threesCard << FIRST_CARD_SHIFT
+                 | pairCard << (FIRST_CARD_SHIFT - CARD_BITS);
+        }
+        if (flushOrStraight != 0) {
+          return flushOrStraight;
+        }
+        return twoPair(ranks, pairs);
+      }
+    }
+  }
+
+  private static int findFlushColor(int clubs, int diamonds, int spades, int hearts) {
+    // With seven cards or less only one color can have five cards
+    if (Integer.bitCount(clubs) >= NUMBER_OF_CARDS_IN_HAND) {
+      return clubs;
+    }
+    if (Integer.bitCount(diamonds) >= NUMBER_OF_CARDS_IN_HAND) {
+      return diamonds;
+    }
+    if (Integer.bitCount(spades) >= NUMBER_OF_CARDS_IN_HAND) {
+      return spades;
+    }
+    if (Integer.bitCount(hearts) >= NUMBER_OF_CARDS_IN_HAND) {
+      return hearts;
+    }
+    return 0;
+  }
+
+  private static int findThrees(int clubs, int diamonds, int spades, int hearts) {
+    // Any three of four colors contain both one of the pairs (clubs, diamonds)/(spades, hearts)
+    // and one of the pairs (clubs, spades)/(diamonds, hearts), two colors never do
+    return ((clubs & diamonds) | (spades & hearts)) & ((clubs & spades) | (diamonds & hearts));
+  }
+
+  private static int twoPair(int ranks, int pairs) {
+    final int highestPair = TOP_CARD_TABLE[pairs];
+    final int secondPair = TOP_CARD_TABLE[pairs ^ rankBit(highestPair)];
+    final int kicker = TOP_CARD_TABLE[ranks ^ rankBit(highestPair) ^ rankBit(secondPair)];
+    return TWO_PAIR << CATEGORY_SHIFT
+           | highestPair << FIRST_CARD_SHIFT
+           | secondPair << (FIRST_CARD_SHIFT - CARD_BITS)
+           | kicker << (FIRST_CARD_SHIFT - 2 * CARD_BITS);
+  }
+
+  private static int straightFlush(int highestCard) {
+    final int category = highestCard == Ordinal.ace.getValue() ? ROYAL_STRAIGHT_FLUSH : STRAIGHT_FLUSH;
+    return category << CATEGORY_SHIFT | highestCard << FIRST_CARD_SHIFT;
+  }
+
+  private static int rankBit(int ordinalValue) {
+    return 1 << (ordinalValue - ORDINAL_VALUE_OF_LOWEST_RANK);
+  }
+
+  static int getCategory(int handStrength) {
+    return handStrength >>> CATEGORY_SHIFT;
+  }
+
+  static PokerHand getPokerHand(int handStrength) {
+    return POKER_HANDS[getCategory(handStrength)];
+  }
+
+  /*
+   * The lowest hand strength of a poker hand, i.e. the category without any cards
+   */
+  static int getHandStrength(PokerHand pokerHand) {
+    return pokerHand.getValue() / 100 << CATEGORY_SHIFT;
+  }
+
+  /*
+   * Ordinal value of the card deciding the hand, i.e. the pair in a pair or the highest card in a straight
+   */
+  static int getTopOrdinalValue(int handStrength) {
+    return (handStrength >>> FIRST_CARD_SHIFT) & CARD_MASK;
+  }
+}
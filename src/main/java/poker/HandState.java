@@ -0,0 +1,96 @@
+package poker;
+
+/*
+ * The cards of one player as they are dealt, private cards first and then the common cards street by street.
+ *
+ * Adding a card updates the rank mask of its color, the number of cards of its color, the rank mask of all colors
+ * (which holds the straights) and the number of cards sharing rank with an earlier card, each in constant time. The
+ * rank is evaluated from these when it is asked for and is kept until the next card is added, so a player is
+ * evaluated once per street however many times the rank is used.
+ */
+final class HandState {
+
+  private static final int NUMBER_OF_COLORS = Color.values().length;
+  private static final int NUMBER_OF_CARDS_IN_FLUSH = 5;
+  private static final int NO_FLUSH = -1;
+
+  private final int[] colorMasks = new int[NUMBER_OF_COLORS];
+  private final int[] colorCounts = new int[NUMBER_OF_COLORS];
+  private long cards = CardSet.NO_CARDS;
+  private int ranks;
+  private int duplicates;
+  private int flushColorValue = NO_FLUSH;
+  private boolean isRankValid;
+  private int rank;
+  private int numberOfEvaluations;
+
+  void clear() {
+    for (int colorValue = 0; colorValue < NUMBER_OF_COLORS; colorValue++) {
+      colorMasks[colorValue] = 0;
+      colorCounts[colorValue] = 0;
+    }
+    cards = CardSet.NO_CARDS;
+    ranks = 0;
+    duplicates = 0;
+    flushColorValue = NO_FLUSH;
+    isRankValid = false;
+  }
+
+  void addCard(int bitIndex) {
+    final long bit = 1L << bitIndex;
+    if ((cards & bit) != CardSet.NO_CARDS) {
+      throw new RuntimeException("Card [" + CardSet.getCard(bitIndex) + "] is already in the hand");
+    }
+    cards |= bit;
+    final int colorValue = CardSet.getColorValue(bitIndex);
+    final int rankBit = 1 << CardSet.getRank(bitIndex);
+    if ((ranks & rankBit) != 0) {
+      duplicates++;
+    }
+    ranks |= rankBit;
+    colorMasks[colorValue] |= rankBit;
+    if (++colorCounts[colorValue] >= NUMBER_OF_CARDS_IN_FLUSH) {
+      flushColorValue = colorValue;
+    }
+    isRankValid = false;
+  }
+
+  void addCards(long newCards) {
+    for (long cardsLeft = newCards; cardsLeft != CardSet.NO_CARDS; cardsLeft &= cardsLeft - 1) {
+      addCard(Long.numberOfTrailingZeros(cardsLeft));
+    }
+  }
+
+  /*
+   * The rank of the cards, see EvaluationHandler.rank
+   */
+  int rank() {
+    if (!isRankValid) {
+      rank = HandEvaluator.evaluate(colorMasks[Color.clubs.getValue()],
+                                    colorMasks[Color.diamonds.getValue()],
+                                    colorMasks[Color.spades.getValue()],
+                                    colorMasks[Color.hearts.getValue()],
+                                    ranks,
+                                    duplicates,
+                                    flushColorValue == NO_FLUSH ? 0 : colorMasks[flushColorValue]);
+      isRankValid = true;
+      numberOfEvaluations++;
+    }
+    return rank;
+  }
+
+  long getCards() {
+    return cards;
+  }
+
+  int getNumberOfCards() {
+    return CardSet.size(cards);
+  }
+
+  /*
+   * How many times the cards have been evaluated since the state was created
+   */
+  int getNumberOfEvaluations() {
+    return numberOfEvaluations;
+  }
+}
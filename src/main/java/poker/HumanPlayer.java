@@ -52,8 +52,7 @@ public class HumanPlayer extends Player {
                            int playersPartInPots) {
     switch (strategy) {
       case ALL_IN:
-        action = new Action(ActionEnum.ALL_IN);
-        action.setAmount(raiseAmount);
+        action = Action.of(ActionEnum.ALL_IN, raiseAmount);
         break;
       case OFFENSIVE:
         if (canPlayerAffordToDoAction(amountToJoinPot)) {
@@ -61,33 +60,28 @@ public class HumanPlayer extends Player {
             raiseAmount = getNewRaiseAmount(amountToJoinPot);
           }
         } else {
-          action = new Action(ActionEnum.ALL_IN);
           raiseAmount = getNumberOfMarkers();
         }
-        action = new Action(ActionEnum.RAISE);
-        action.setAmount(raiseAmount);
+        action = Action.of(ActionEnum.RAISE, raiseAmount);
         break;
       case JOIN:
         if (canPlayerAffordToDoAction(amountToJoinPot)) {
-          action = new Action(ActionEnum.CHECK);
+          action = Action.of(ActionEnum.CHECK, amountToJoinPot);
         } else {
-          action = new Action(ActionEnum.ALL_IN);
-          amountToJoinPot = getNumberOfMarkers();
+          action = Action.of(ActionEnum.ALL_IN, getNumberOfMarkers());
         }
-        action.setAmount(amountToJoinPot);
         break;
       case QUIT:
         if (!BetManager.shallPayToPot(playersPartInPots, maxRaiseThisDraw)) {
           System.out.println("You don't have to pay to the pot, there is no need to fold. You check. ");
-          action = new Action(ActionEnum.CHECK);
+          action = Action.CHECK;
         } else if (noRaiseThisDraw(maxRaiseThisDraw)) {
           logger.trace("No raise this draw. ");
           System.out.println("You don't need to fold, there is no raise this draw. You check. ");
-          action = new Action(ActionEnum.CHECK);
+          action = Action.CHECK;
         } else {
-          action = new Action(ActionEnum.FOLD);
+          action = Action.FOLD;
         }
-        action.setAmount(0);
         break;
       default:
         throw new RuntimeException("This should not happen. strategy:[" + strategy + "]");
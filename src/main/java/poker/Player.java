@@ -15,12 +15,14 @@ public abstract class Player {
   private static final Logger logger = LogManager.getLogger(Player.class);
 
   private List<Card> cardsOnHand = new ArrayList<>();
+  private long privateCards = CardSet.NO_CARDS;
+  private final HandState handState = new HandState();
   private boolean bigBlind = false;
   private boolean littleBlind = false;
   Strategy strategy = Strategy.NOT_DECIDED;
-  protected Action action = new Action(ActionEnum.NOT_DECIDED);
+  protected Action action = Action.NOT_DECIDED;
   int partInPot = 0;
-  Action previousAction = new Action(ActionEnum.NOT_DECIDED);
+  Action previousAction = Action.NOT_DECIDED;
   int blindAmount = 0;
 
   public Action getAction() {
@@ -47,20 +49,46 @@ public abstract class Player {
 
   void addPrivateCards(List<Card> newCards) {
     cardsOnHand.addAll(newCards);
+    privateCards |= CardSet.toLong(newCards);
   }
 
-  Map<Card, PokerResult> evaluateHand(List<Card> commonHand) {
-    List<Card> totalHand = new ArrayList<>();
-    totalHand.addAll(cardsOnHand);
-    totalHand.addAll(commonHand);
-    logger.trace("[" + name + "]:s total hand is [" + EvaluationHandler.getHandAsString(totalHand) + "]");
+  Map<Card, PokerResult> evaluateHand(long commonCards) {
+    final long totalHand = privateCards | commonCards;
+    if (EngineLogging.ENABLED) {
+      logger.trace("[{}]:s total hand is [{}]", name, EvaluationHandler.getHandAsString(totalHand));
+    }
     return EvaluationHandler.evaluateHand(name, totalHand);
   }
 
+  /*
+   * The rank of the private and common cards, see EvaluationHandler.rank. Only the cards added since the last call
+   * are added to the hand state, and the hand is not evaluated again until another card is added.
+   */
+  int rank(long commonCards) {
+    final long totalHand = privateCards | commonCards;
+    if ((handState.getCards() & ~totalHand) != CardSet.NO_CARDS) {
+      // Not the cards of the last call plus new ones, i.e. a hand set by a test
+      handState.clear();
+    }
+    handState.addCards(totalHand & ~handState.getCards());
+    if (EngineLogging.ENABLED) {
+      logger.trace("[{}]:s total hand is [{}]", name, EvaluationHandler.getHandAsString(totalHand));
+    }
+    return handState.rank();
+  }
+
+  HandState getHandState() {
+    return handState;
+  }
+
   List<Card> getPrivateHand() {
     return this.cardsOnHand;
   }
 
+  long getPrivateCards() {
+    return privateCards;
+  }
+
   public String getName() {
     return this.name;
   }
@@ -132,14 +160,18 @@ public abstract class Player {
   public void decreaseMarkers(int markers) {
     numberOfMarkers = numberOfMarkers - markers;
     if (numberOfMarkers < 0) {
-      logger.debug("Player :[" + getName() + "] is broke!");
+      logger.debug("Player :[{}] is broke!", getName());
       numberOfMarkers = 0;
     }
-    logger.debug("Decrease [" + markers + "] for :[" + getName() + "]. Total number of markers :[" + numberOfMarkers + "]");
+    if (EngineLogging.ENABLED) {
+      logger.debug("Decrease [{}] for :[{}]. Total number of markers :[{}]", markers, getName(), numberOfMarkers);
+    }
   }
 
   public boolean hasAnyMarkers() {
-    logger.trace("Player {{}} has {{}} number of markers. ", getName(), numberOfMarkers);
+    if (EngineLogging.ENABLED) {
+      logger.trace("Player {{}} has {{}} number of markers. ", getName(), numberOfMarkers);
+    }
     return numberOfMarkers > 0;
   }
 
@@ -175,7 +207,7 @@ public abstract class Player {
     decideStrategy(draw, numberOfRemainingPlayers, commonHand);
     int individualRaiseAmount = calculateRaiseAmount(blind);
     setAction(individualRaiseAmount, maxRaiseFromAPlayer, maxRaiseThisDraw, playersPartInPots);
-    logger.debug("Player " + getName() + " decides to :[" + getAction() + "]");
+    logger.debug("Player {} decides to :[{}]", getName(), getAction());
     return getAction();
   }
 
@@ -223,7 +255,9 @@ public abstract class Player {
 
   void addMarkers(int markers) {
     numberOfMarkers = numberOfMarkers + markers;
-    logger.debug("Player :[" + getName() + "] gets :[" + markers + "]. Total number of markers :[" + numberOfMarkers + "]. ");
+    if (EngineLogging.ENABLED) {
+      logger.debug("Player :[{}] gets :[{}]. Total number of markers :[{}]. ", getName(), markers, numberOfMarkers);
+    }
   }
 
   boolean hasFolded() {
@@ -247,11 +281,11 @@ public abstract class Player {
   }
 
   void setActionToNotDecided() {
-    action = new Action(ActionEnum.NOT_DECIDED);
+    action = Action.NOT_DECIDED;
   }
 
   void setActionToCheck() {
-    action = new Action(ActionEnum.CHECK);
+    action = Action.CHECK;
   }
 
   int calculateRaiseAmountIncludingBlind(int raiseAmount) {
@@ -266,6 +300,8 @@ public abstract class Player {
 
   void removeCardsFromHand() {
     cardsOnHand.clear();
+    privateCards = CardSet.NO_CARDS;
+    handState.clear();
   }
 }
 
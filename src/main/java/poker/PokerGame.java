@@ -7,6 +7,7 @@ import org.apache.logging.log4j.Logger;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 public class PokerGame {
@@ -16,21 +17,54 @@ public class PokerGame {
   private static final Logger logger = LogManager.getLogger(PokerGame.class);
   private int blind = 50;
   static final int TOTAL_MARKERS_PER_PLAYER = 2500;
-  private PotHandler potHandler = new PotHandler();
+  private final PotHandler potHandler;
   private BetManager betManager;
+  private final GameListener gameListener;
+  private static final String HEADLESS = "headless";
+  private static final String EQUITY_ROBOT_SUFFIX = " (equity)";
 
+  /*
+   * With the argument headless a number of robot tournaments are played without any console output, the optional
+   * second argument is the number of tournaments and the optional third the number of robots that decide from the
+   * equity of their hands
+   */
   public static void main(String[] args) {
+    if (args.length > 0 && HEADLESS.equals(args[0])) {
+      playHeadlessTournaments(args.length > 1 ? Integer.parseInt(args[1]) : 1,
+                              args.length > 2 ? Integer.parseInt(args[2]) : 0);
+      return;
+    }
     final PokerGame pokerGame = getInstance();
     pokerGame.setKeyboard();
     pokerGame.startGame();
   }
 
+  private static void playHeadlessTournaments(int numberOfTournaments, int numberOfEquityRobots) {
+    final long start = System.nanoTime();
+    final Map<String, Integer> tournamentWins = new TreeMap<>();
+    for (int tournament = 0; tournament < numberOfTournaments; tournament++) {
+      final PokerGame pokerGame = new PokerGame(GameListener.SILENT, new SplittableRandomSource());
+      final Player theWinner = pokerGame.playRobotTournament(MAX_NUMBER_OF_PLAYERS, numberOfEquityRobots);
+      tournamentWins.merge(theWinner.getName(), 1, Integer::sum);
+    }
+    // Only the summary is printed, the tournaments themselves are silent
+    System.out.println("Played [" + numberOfTournaments + "] tournaments in [" + (System.nanoTime() - start) / 1e9 + "] s");
+    System.out.println("Tournament wins :" + tournamentWins);
+  }
+
   private void setKeyboard() {
     KeyboardHelper.setKeyBoard(createRealKeyboard());
   }
 
   public PokerGame() {
-    this.dealer = Dealer.getInstance();
+    this(new ConsoleGameListener(), new SplittableRandomSource());
+  }
+
+  PokerGame(GameListener gameListener, RandomSource randomSource) {
+    this.gameListener = gameListener;
+    this.dealer = new Dealer(randomSource);
+    this.dealer.setGameListener(gameListener);
+    this.potHandler = new PotHandler(dealer.getTableSeats());
   }
 
   public static PokerGame getInstance() {
@@ -39,21 +73,47 @@ public class PokerGame {
 
   void startGame() {
     createPlayers();
+    playTournament(() -> KeyboardHelper.getCharFromKeyboard(Lists.newArrayList("O"), "Press O to continue", null));
+  }
+
+  /*
+   * Registers robots and plays until one of them has all markers, nothing waits for input between the rounds
+   */
+  Player playRobotTournament(int numberOfRobots) {
+    return playRobotTournament(numberOfRobots, 0);
+  }
+
+  /*
+   * As playRobotTournament, the first numberOfEquityRobots robots are EquityRobotPlayers so the two strategies can be
+   * compared at the same table
+   */
+  Player playRobotTournament(int numberOfRobots, int numberOfEquityRobots) {
+    for (Player robot : createNumberOfRobotPlayers(numberOfRobots, numberOfEquityRobots, TOTAL_MARKERS_PER_PLAYER)) {
+      dealer.registerPlayer(robot);
+    }
+    return playTournament(() -> {});
+  }
+
+  /*
+   * Plays rounds with the registered players until one player has all markers, afterEachRound is run between the
+   * rounds
+   */
+  private Player playTournament(Runnable afterEachRound) {
     List<Player> players = dealer.getPlayers();
     initBlinds(players);
-    List<Player> playersStillInTheGame = Lists.newLinkedList();
+    List<Player> playersStillInTheGame = Lists.newArrayList(players);
     List<Player> playersInBettingOrder;
-    playersStillInTheGame.addAll(players);
     do {
-      System.out.println("Blind is: [" + blind / 2 + "] resp: [" + blind + "]");
+      gameListener.roundStarted(blind / 2, blind);
       payBlinds(players, playersStillInTheGame, blind);
       playersInBettingOrder = putBigBlindLastInList(playersStillInTheGame);
       playRound(playersInBettingOrder);
-      KeyboardHelper.getCharFromKeyboard(Lists.newArrayList("O"), "Press O to continue", null);
+      afterEachRound.run();
       playersStillInTheGame = playersThatCanBet(players);
     } while (!doWeHaveAWinner(playersStillInTheGame));
     final Player theWinner = playersStillInTheGame.get(0);
-    System.out.println("Player :[" + theWinner.getName() + "] is the winner and won :[" + theWinner.getNumberOfMarkers() + "] markers.");
+    gameListener.gameWon(theWinner);
+    return theWinner;
   }
 
   private Keyboard createRealKeyboard() {
@@ -66,16 +126,17 @@ public class PokerGame {
   List<Player> putBigBlindLastInList(List<Player> playersStillInTheGame) {
     // Get index of big blind player
     int indexOfBigBlindPlayer = 0;
-    for (Player player:playersStillInTheGame) {
-      if (player.hasBigBlind()) {
-        indexOfBigBlindPlayer = playersStillInTheGame.indexOf(player);
+    final int numberOfPlayers = playersStillInTheGame.size();
+    for (int i = 0; i < numberOfPlayers; i++) {
+      if (playersStillInTheGame.get(i).hasBigBlind()) {
+        indexOfBigBlindPlayer = i;
         break;
       }
     }
-    List<Player> sortedList = Lists.newLinkedList();
+    List<Player> sortedList = Lists.newArrayListWithCapacity(numberOfPlayers);
     // Player after blind player is put first in list and so on, big blind player should be last
-    for (int i=0;i<playersStillInTheGame.size();i++) {
-      sortedList.add(playersStillInTheGame.get((indexOfBigBlindPlayer + 1 + i) % playersStillInTheGame.size()));
+    for (int i=0;i<numberOfPlayers;i++) {
+      sortedList.add(playersStillInTheGame.get((indexOfBigBlindPlayer + 1 + i) % numberOfPlayers));
     }
     return sortedList;
   }
@@ -91,14 +152,14 @@ public class PokerGame {
   }
 
   void playRound(List<Player> players) {
-    betManager = new BetManager(players, blind, potHandler);
-    System.out.println("Start play before flop. ");
+    betManager = new BetManager(players, blind, potHandler, gameListener);
+    gameListener.drawStarted(Draw.BEFORE_FLOP);
     playBeforeFlop(players);
-    System.out.println("Start play flop. ");
+    gameListener.drawStarted(Draw.FLOP);
     playFlop(players);
-    System.out.println("Start play turn. ");
+    gameListener.drawStarted(Draw.TURN);
     playTurn(players);
-    System.out.println("Start play river. ");
+    gameListener.drawStarted(Draw.RIVER);
     playRiver(players);
     logger.debug("Get the winner. ");
     getTheWinner(potHandler, players);
@@ -122,56 +183,65 @@ public class PokerGame {
     return totalAmountOfMarkers;
   }
 
-  Player getTheWinner(PotHandler pot, List<Player> players) {
-    final Player theWinner = dealer.findTheWinner(getPlayersThatDidNotFold(players));
-    checkTotalHand(dealer, theWinner.getName(), theWinner.getPrivateHand());
-    theWinner.addMarkers(pot.getNumberOfMarkersInAllPots());
-    System.out.println("Player " + theWinner.getName() + " wins pot with " + pot.getNumberOfMarkersInAllPots() + " markers.");
-    for (Player player : players) {
-      System.out.println("Number of markers for player " + player.getName() + " : " + player.getNumberOfMarkers());
+  /*
+   * Pays the pots to the winners. A player that went all in only wins the markers the others could match, players
+   * with equally good hands split the pot and the markers left over when it can't be split evenly go to the first
+   * of them.
+   */
+  List<Player> getTheWinner(PotHandler pot, List<Player> players) {
+    final List<Player> winners = dealer.findTheWinner(getPlayersThatDidNotFold(players));
+    final long commonCards = dealer.getCommonCards();
+    final ToIntFunction<Player> ranking = player -> player.hasFolded() ? Showdown.FOLDED : player.rank(commonCards);
+    for (Map.Entry<Player, Integer> payout : pot.getPayouts(ranking).entrySet()) {
+      final Player player = payout.getKey();
+      player.addMarkers(payout.getValue());
+      if (!player.hasFolded()) {
+        // The rank is kept by the player since the pots were paid, so the hand is not evaluated again
+        gameListener.potWon(player, player.rank(commonCards), payout.getValue());
+      }
     }
-    return theWinner;
+    gameListener.roundFinished(players);
+    return winners;
   }
 
-  private String playRiver(List<Player> players) {
+  private void playRiver(List<Player> players) {
     dealer.increaseDraw();
     final List<Card> riverCard = dealer.drawRiver();
     betManager.addRiverCardToCommonHand(riverCard, dealer.getDraw());
     logger.info("Total hand after river: ");
     printHumanHand();
-    return decideBet(getPlayersWhoHasntFinishedBetting(players));
+    bet(getPlayersWhoHasntFinishedBetting(players));
   }
 
-  private String playTurn(List<Player> players) {
+  private void playTurn(List<Player> players) {
     dealer.increaseDraw();
     final List<Card> turnCard = dealer.drawTurn();
     betManager.addTurnCardToCommonHand(turnCard, dealer.getDraw());
     logger.info("Total hand after drawManager: ");
     printHumanHand();
-    return decideBet(getPlayersWhoHasntFinishedBetting(players));
+    bet(getPlayersWhoHasntFinishedBetting(players));
   }
 
-  private String playFlop(List<Player> players) {
+  private void playFlop(List<Player> players) {
     dealer.increaseDraw();
     final List<Card> flopCards = dealer.drawFlop();
     betManager.addFlopCardsToCommonhand(flopCards, dealer.getDraw());
     logger.info("Total hand after flop: ");
     printHumanHand();
-    return decideBet(getPlayersWhoHasntFinishedBetting(players));
+    bet(getPlayersWhoHasntFinishedBetting(players));
   }
 
-  private String playBeforeFlop(List<Player> players) {
+  private void playBeforeFlop(List<Player> players) {
     dealer.playPrivateHands();
     logger.info("Total hand before flop: ");
     printHumanHand();
-    return decideBet(getPlayersWhoHasntFinishedBetting(players));
+    bet(getPlayersWhoHasntFinishedBetting(players));
   }
 
   void resetTurn(List<Player> players) {
     for (Player player : players) {
-      player.action = new Action(ActionEnum.NOT_DECIDED);
-      player.previousAction = new Action(ActionEnum.NOT_DECIDED);
-      player.action.setAmount(0);
+      player.action = Action.NOT_DECIDED;
+      player.previousAction = Action.NOT_DECIDED;
       player.blindAmount = 0;
     }
     blind = increaseBlind();
@@ -206,19 +276,19 @@ public class PokerGame {
       return "Less than two players can bet, no need to continue. ";
     }
 
-    System.out.println("Player to play little blind: ");
     payBlind(
       allPlayers -> getPlayerWithLittleBlind(players),
       playersStillInTheGame,
       blindAmount / 2,
+      false,
       player -> player.setLittleBlind(blindAmount / 2),
       Player::clearLittleBlind
     );
-    System.out.println("Player to play big blind: ");
     payBlind(
       allPlayers -> getPlayerWithBigBlind(players),
       playersStillInTheGame,
       blindAmount,
+      true,
       player -> player.setBigBlind(blindAmount),
       Player::clearBigBlind
     );
@@ -228,14 +298,16 @@ public class PokerGame {
   private void payBlind(Function<List<Player>, Player> getPlayerWithBlind,
                         List<Player> playersStillInTheGame,
                         int blindAmount,
+                        boolean isBigBlind,
                         Consumer<Player> setBlind,
                         Consumer<Player> clearBlind) {
     Player playerWithOldBlind = getPlayerWithBlind.apply(playersStillInTheGame);
     Player newBlindPlayer = playersStillInTheGame.get(getNewBlindIndex(playersStillInTheGame, playersStillInTheGame.indexOf(playerWithOldBlind)));
     logger.debug("Clear blind for :[" + playerWithOldBlind.getName() + "]");
-    setBlind.accept(newBlindPlayer);
-    System.out.println("Set blind for :[" + newBlindPlayer.getName() + "] amount: " + blindAmount);
+    // Cleared before it is set, the blind stays with the same player when nobody else can take it
     clearBlind.accept(playerWithOldBlind);
+    setBlind.accept(newBlindPlayer);
+    gameListener.blindPaid(newBlindPlayer, blindAmount, isBigBlind);
     int raiseAmount = blindAmount;
     if (newBlindPlayer.canPay(blindAmount)) {
       newBlindPlayer.decreaseMarkers(blindAmount);
@@ -244,13 +316,13 @@ public class PokerGame {
       // Go all in for player and create new pot
       raiseAmount = newBlindPlayer.getNumberOfMarkers();
       final int allInAmount = newBlindPlayer.getNumberOfMarkers();
-      System.out.println("Player :[" + newBlindPlayer.getName() + "] does not have markers for blind :[" + blindAmount + "], has to go all in with :[" + allInAmount + "].");
+      gameListener.blindAllIn(newBlindPlayer, blindAmount, allInAmount);
       potHandler.joinPot(newBlindPlayer, allInAmount);
 
       newBlindPlayer.decreaseMarkers(allInAmount);
-      newBlindPlayer.action = new Action(ActionEnum.ALL_IN);
+      newBlindPlayer.action = Action.of(ActionEnum.ALL_IN);
     }
-    newBlindPlayer.action.setAmount(raiseAmount);
+    newBlindPlayer.action = newBlindPlayer.action.withAmount(raiseAmount);
   }
 
   private int getNewBlindIndex(List<Player> players, int blindIndex) {
@@ -260,7 +332,9 @@ public class PokerGame {
     do {
       newIndexOfBlind = (tempIndexOfBlind + 1) % players.size();
       tempIndexOfBlind++;
-      logger.info("Player {{}} index {{}} has markers {{}} ", players.get(newIndexOfBlind), newIndexOfBlind, players.get(newIndexOfBlind).getNumberOfMarkers());
+      if (EngineLogging.ENABLED) {
+        logger.info("Player {{}} index {{}} has markers {{}} ", players.get(newIndexOfBlind), newIndexOfBlind, players.get(newIndexOfBlind).getNumberOfMarkers());
+      }
       if ((tempIndexOfBlind - blindIndex) > players.size()) {
         // We've looped from all players and did not find anyone that can have blind, set original value
         return blindIndex;
@@ -273,7 +347,7 @@ public class PokerGame {
   private Player getPlayerWithLittleBlind(List<Player> players) {
     for (Player player : players) {
       if (player.hasLittleBlind()) {
-        logger.trace("Current player with little blind :[" + player.getName() + "] index :[" + players.indexOf(player) + "]");
+        logger.trace("Current player with little blind :[{}] seat :[{}]", player.getName(), dealer.getTableSeats().getSeat(player));
         return player;
       }
     }
@@ -283,7 +357,7 @@ public class PokerGame {
   private Player getPlayerWithBigBlind(List<Player> players) {
     for (Player player : players) {
       if (player.hasBigBlind()) {
-        logger.trace("Current player with big blind :[" + player.getName() + "] index :[" + players.indexOf(player) + "]");
+        logger.trace("Current player with big blind :[{}] seat :[{}]", player.getName(), dealer.getTableSeats().getSeat(player));
         return player;
       }
     }
@@ -292,23 +366,18 @@ public class PokerGame {
 
   private void printHumanHand() {
     final List<Player> players = dealer.getPlayers();
-    String humanPlayer = "";
+    Player humanPlayer = null;
     for (Player player : players) {
       if (player instanceof HumanPlayer) {
-        humanPlayer = player.getName();
+        humanPlayer = player;
       }
     }
-    if (humanPlayer.isEmpty()) {
+    if (humanPlayer == null) {
       logger.trace("No human player in this game.");
       return;
     }
-    final List<Card> privateHand = dealer.getPlayerHand(humanPlayer);
-    List<Card> commonHand = dealer.getCommonHand();
-    List<Card> totalHand = new ArrayList<>(privateHand);
-    totalHand.addAll(commonHand);
-    final String totalHandString = EvaluationHandler.getHandAsString(totalHand);
-    System.out.print("The hand for :[" + humanPlayer + "] is :[" + totalHandString + "] ");
-    printCurrentResult(humanPlayer, totalHand);
+    final long commonCards = dealer.getCommonCards();
+    gameListener.handShown(humanPlayer, humanPlayer.getPrivateCards() | commonCards, humanPlayer.rank(commonCards));
   }
 
   private void createPlayers() {
@@ -324,8 +393,11 @@ public class PokerGame {
     return humanPlayer;
   }
 
+  /*
+   * The blind stops growing when nobody can pay it, otherwise it overflows when two players go all in round after round
+   */
   private int increaseBlind() {
-    return blind * 2;
+    return Math.min(blind * 2, dealer.getPlayers().size() * TOTAL_MARKERS_PER_PLAYER);
   }
 
   /*
@@ -345,15 +417,24 @@ public class PokerGame {
    *
    */
   String decideBet(List<Player> remainingPlayers) {
+    return bet(remainingPlayers) ? betManager.getResult() : "";
+  }
+
+  /*
+   * Returns false if there was nobody to bet against
+   */
+  private boolean bet(List<Player> remainingPlayers) {
     if (remainingPlayers.size() < 2) {
       // A player already won
-      return "";
+      return false;
     }
-    return betManager.bet();
+    betManager.bet();
+    return true;
   }
 
   void clearPreviousPlayersWithActionCheck(List<Player> remainingPlayers, Player player) {
-    for (int i = 0; i < remainingPlayers.indexOf(player); i++) {
+    final int indexOfPlayer = remainingPlayers.indexOf(player);
+    for (int i = 0; i < indexOfPlayer; i++) {
       final Player tempPlayer = remainingPlayers.get(i);
       if (tempPlayer.getAction().isCheck()) {
         tempPlayer.setActionToNotDecided();
@@ -388,41 +469,43 @@ public class PokerGame {
   }
 
   List<Player> createNumberOfRobotPlayers(int numberOfPlayers, int markersPerPlayer) {
+    return createNumberOfRobotPlayers(numberOfPlayers, 0, markersPerPlayer);
+  }
+
+  /*
+   * The first numberOfEquityRobots robots decide from the equity of their hands and share one equity service, their
+   * names end with (equity)
+   */
+  List<Player> createNumberOfRobotPlayers(int numberOfPlayers, int numberOfEquityRobots, int markersPerPlayer) {
     if (numberOfPlayers > MAX_NUMBER_OF_PLAYERS) {
       throw new RuntimeException("Number of players should be between 1 and 10: " + numberOfPlayers);
     }
+    if (numberOfEquityRobots < 0 || numberOfEquityRobots > numberOfPlayers) {
+      throw new RuntimeException("Number of equity robots should be between 0 and " + numberOfPlayers + ": " + numberOfEquityRobots);
+    }
     final String[] name = {"Thomas", "Jörn", "Anders", "Bosse", "Ingemar", "Staffan", "Bagarn", "Bobo", "Vesam", "Mr X"};
+    final EquityService equityService = numberOfEquityRobots > 0 ? new EquityService() : null;
 
     List<Player> robotPlayers = Lists.newArrayList();
     for (int i = 0; i < numberOfPlayers; i++) {
-      Player player = new RobotPlayer(name[i], markersPerPlayer);
+      Player player;
+      if (i < numberOfEquityRobots) {
+        player = new EquityRobotPlayer(name[i] + EQUITY_ROBOT_SUFFIX, markersPerPlayer, potHandler, equityService);
+      } else {
+        player = new RobotPlayer(name[i], markersPerPlayer);
+      }
       robotPlayers.add(player);
     }
     return robotPlayers;
   }
 
-  private void checkTotalHand(Dealer dealer, String playerName, List<Card> privateHand) {
-    List<Card> commonHand = dealer.getCommonHand();
-    List<Card> totalHand = new ArrayList<>(privateHand);
-    totalHand.addAll(commonHand);
-    printCurrentResult(playerName, totalHand);
-  }
-
-  private void printCurrentResult(String playerName, List<Card> totalHand) {
-    final String totalHandString = EvaluationHandler.getHandAsString(totalHand);
-    final Map<Card, PokerResult> cardPokerResultMap = EvaluationHandler.evaluateHand(playerName, totalHand);
-    final Set<Card> cards = cardPokerResultMap.keySet();
-    for (Card card : cards) {
-      System.out.println(cardPokerResultMap.get(card).getPokerHand());
-    }
-  }
-
   public void setPrivateHand(Player player, List<Card> privateHand) {
     dealer.setPrivateHand(player, privateHand);
   }
 
   public void clearGameForTests() {
     dealer.clearGameForTests();
+    potHandler.clear();
   }
 
   void registerPlayer(Player player) {
@@ -4,15 +4,25 @@ public class PokerResult {
   private final PokerHand pokerHand;
   // Points are only used for rating pair/no_results
   private int points = 0;
+  // Category and all kickers as one int, see HandEvaluator. Equal ranks are equally good hands
+  private final int rank;
 
   public PokerResult(PokerHand pokerHand, int points) {
     this.pokerHand = pokerHand;
     this.points = points;
+    this.rank = HandEvaluator.getHandStrength(pokerHand);
   }
 
   public PokerResult(PokerHand pokerHand) {
     this.pokerHand = pokerHand;
     this.points = pokerHand.getValue();
+    this.rank = HandEvaluator.getHandStrength(pokerHand);
+  }
+
+  PokerResult(PokerHand pokerHand, int points, int rank) {
+    this.pokerHand = pokerHand;
+    this.points = points;
+    this.rank = rank;
   }
 
   public PokerHand getPokerHand() {
@@ -22,4 +32,8 @@ public class PokerResult {
   public int getPoints() {
     return pokerHand.getValue() + points;
   }
+
+  int getRank() {
+    return rank;
+  }
 }
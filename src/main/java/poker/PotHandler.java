@@ -1,28 +1,38 @@
 package poker;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
+/*
+ * A bet only adds the markers to the seat of the player in the side pots. The pots as lists of members are built
+ * from the layout of the side pots when somebody asks for them, see SidePots.
+ */
 public class PotHandler {
 
-  private List<Pot> pots = Lists.newArrayList();
   private int highestRaise = 0;
+  private final SidePots sidePots = new SidePots();
+  private final TableSeats tableSeats;
+  private final PotSummary summary;
   private static final Logger logger = LogManager.getLogger(PotHandler.class);
 
   public PotHandler() {
-    pots.add(new Pot());
+    this(new TableSeats());
   }
 
   /*
-  Use case 1: 450 markers, 4 pots, size 100, 200, 50, 100. Player checks 450. Pays to all pots
-
-  Use case 2: 450 markers, 4 pots, size 100, 200, 50, 100. Player goes all in on 310. Pay 100 to first pot, 200 to second pot and split 3rd pot to 10 and 40.
-  Result: 5 pots 100, 200, 10, 40, 50, 100
+   * Players that bet without a seat at the table are seated by the pot handler
    */
+  PotHandler(TableSeats tableSeats) {
+    this.tableSeats = tableSeats;
+    this.summary = new SidePotsSummary(sidePots, tableSeats);
+  }
 
   public int getHighestRaise() {
     return highestRaise;
@@ -30,234 +40,103 @@ public class PotHandler {
 
   public void joinPot(Player player, int joinAmount) {
     if (joinAmount > highestRaise) {
-      logger.trace("New highest raise: {{}}", highestRaise);
-      highestRaise = joinAmount;
-    }
-    int joinAmountLeft = joinAmount;
-    int amountToJoinPot = 0;
-
-    Pot potToSplit = null;
-    List<Pot> newPots = Lists.newArrayList();
-    // Pay highest amount in pot until joinAmountLeft is 0
-    for (Pot pot : pots) {
-      int markersPaidToPot = 0;
-      amountToJoinPot = getAmountToJoinPot(joinAmount, pot);
-      final int potIndex = pots.indexOf(pot);
-      final int numberOfPots = pots.size() - 1;
-      if (pot.hasMember(player)) {
-        if (isLatestPot(potIndex, numberOfPots)) {
-          createNewPot(player, joinAmount, joinAmountLeft, newPots, markersPaidToPot);
-        }
-        continue;
+      if (EngineLogging.ENABLED) {
+        logger.trace("New highest raise: {{}}", highestRaise);
       }
-      if (isLatestPot(potIndex, numberOfPots)) {
-        if (canJoinPot(joinAmountLeft, amountToJoinPot)) {
-          markersPaidToPot = joinLatestPot(player, joinAmount, joinAmountLeft, amountToJoinPot, newPots, pot);
-        } else {
-          potToSplit = splitCurrentPot(player, joinAmountLeft, amountToJoinPot, pot);
-          break;
-        }
-
-      } else {
-        if (amountToJoinPot > joinAmountLeft) {
-          potToSplit = splitCurrentPot(player, joinAmountLeft, amountToJoinPot, pot);
-          break;
-        }
-        if (amountToJoinPot != 0) {
-          putMarkersToPot(pot, player, amountToJoinPot);
-          markersPaidToPot = amountToJoinPot;
-        }
-      }
-      joinAmountLeft -= markersPaidToPot;
-      if (joinAmountLeft == 0) {
-        break;
-      }
-      logger.debug("Join amount left [{}]", joinAmountLeft);
-    }
-    if (!newPots.isEmpty()) {
-      pots.addAll(newPots);
-    }
-    splitPotIfNecessary(joinAmountLeft, potToSplit);
-  }
-
-  private Pot splitCurrentPot(Player player, int joinAmountLeft, int amountToJoinPot, Pot pot) {
-    Pot potToSplit;
-    putMarkersToPot(pot, player, joinAmountLeft);
-    potToSplit = setPotToSplit(joinAmountLeft, amountToJoinPot, pot, player);
-    return potToSplit;
-  }
-
-  private void splitPotIfNecessary(int joinAmountLeft, Pot potToSplit) {
-    if (isPotSplit(potToSplit)) {
-      int splitAmount = joinAmountLeft;
-      do {
-        createNewPot(splitAmount, potToSplit);
-        // Old pot may have been even
-        splitAmount = getEventualNewSplitValueFromOldPot(potToSplit);
-      } while (splitAmount != 0);
-    }
-  }
-
-  private int joinLatestPot(Player player,
-                            int joinAmount,
-                            int joinAmountLeft,
-                            int amountToJoinPot,
-                            List<Pot> newPots,
-                            Pot pot) {
-    int markersPaidToPot;
-    putMarkersToPot(pot, player, amountToJoinPot);
-    markersPaidToPot = amountToJoinPot;
-    if (joinAmountLeft > markersPaidToPot) {
-      createNewPot(player, joinAmount, joinAmountLeft, newPots, markersPaidToPot);
-    }
-    return markersPaidToPot;
-  }
-
-  private void createNewPot(Player player, int joinAmount, int joinAmountLeft, List<Pot> newPots, int markersPaidToPot) {
-    logger.trace("Player {{}} raises with {{}} markers, creating new pot. ", player.getName(), joinAmount - markersPaidToPot);
-    if (joinAmount - markersPaidToPot <= 0) {
-      System.out.println("Remove this later");
-    }
-    final Pot newPotForRestOfJoinAmount = new Pot();
-    newPotForRestOfJoinAmount.addMember(player, joinAmountLeft-markersPaidToPot);
-    newPots.add(newPotForRestOfJoinAmount);
-  }
-
-  private int getAmountToJoinPot(int joinAmount, Pot pot) {
-    int amountToJoinPot;
-    amountToJoinPot = pot.getHighestAmount();
-    if (amountToJoinPot == 0) {
-      amountToJoinPot = joinAmount;
-    }
-    return amountToJoinPot;
-  }
-
-  private boolean isLatestPot(int potIndex, int numberOfPots) {
-    logger.trace("PotIndex {{}} is latest pot. Number of pots : {{}}", potIndex, numberOfPots);
-    if (numberOfPots == 20) {
-      System.out.println("Remove this later");
+      highestRaise = joinAmount;
     }
-    return potIndex == numberOfPots;
+    sidePots.add(tableSeats.seat(player), joinAmount);
   }
 
-  private int getEventualNewSplitValueFromOldPot(Pot pot) {
-    final int highestAmount = pot.getHighestAmount();
-    for (Player player:pot.getMembers()) {
-      final int markersForMember = pot.getMarkersForMember(player);
-      if (markersForMember != highestAmount) {
-        return markersForMember;
+  /*
+   * Pays the pots to the best ranked players that paid into them, the ranking gives Showdown.FOLDED for players that
+   * can't win. Returns the markers every player shall get, by seat.
+   */
+  Map<Player, Integer> getPayouts(ToIntFunction<Player> ranking) {
+    final int numberOfSeats = sidePots.getNumberOfSeats();
+    final int[] ranks = new int[numberOfSeats];
+    for (int seat = 0; seat < numberOfSeats; seat++) {
+      ranks[seat] = sidePots.getContribution(seat) > 0 ? ranking.applyAsInt(tableSeats.getPlayer(seat)) : Showdown.FOLDED;
+    }
+    final int[] payouts = new int[numberOfSeats];
+    sidePots.settle(ranks, payouts);
+    final Map<Player, Integer> payoutsForPlayers = Maps.newLinkedHashMap();
+    for (int seat = 0; seat < numberOfSeats; seat++) {
+      if (payouts[seat] > 0) {
+        payoutsForPlayers.put(tableSeats.getPlayer(seat), payouts[seat]);
       }
     }
-    return 0;
-  }
-
-  private void createNewPot(int joinAmountLeft, Pot potToSplit) {
-    Pot newPot = potToSplit.splitPot(joinAmountLeft);
-    // Sort new pot after old pot in list
-    pots.add(new Pot());
-    int i;
-      /*
-      Use case 1, One pot has been split, pot 0 is old pot, new pot shall be put at position 1
-      pots.size() = 2, start condition i=1, end condition i==1 index of pot to split = 0
-
-      Use case 1, 3 pots (0-2), pot 1 has been split, pot 1 is old pot, new pot shall be put at position 2. pot 2 shall be put to position 3
-      pots.size() = 3, start condition i=3, end condition i==2 index of pot to split = 2
-      Mot
-
-       */
-    for (i = pots.size()-1; i > pots.indexOf(potToSplit) + 1; i--) {
-      pots.set(i, pots.get(i - 1));
-      logger.debug("Moving pot [{}] from position [{}] to position [{}]", pots.get(i-1), i-1, i);
-    }
-    pots.set(i, newPot);
+    return payoutsForPlayers;
   }
 
-  private int previouslyPaied(Player player, Pot pot) {
-    if (!pot.hasMember(player)) {
-      return 0;
-    }
-    return pot.getMarkersForMember(player);
-  }
-
-  private Pot setPotToSplit(int raiseCheckValueLeft, int amountToJoinPot, Pot pot, Player player) {
-    Pot potToSplit;
-    logger.debug("Player [{}] can't afford pot, has [{}] markers need [{}]. Split pot. ", player.getName(), raiseCheckValueLeft, amountToJoinPot);
-    potToSplit = pot;
-    return potToSplit;
+  /*
+   * A live view of the pots, it follows the bets without being fetched again
+   */
+  PotSummary getSummary() {
+    return summary;
   }
 
-  private boolean canJoinPot(int numberOfMarkers, int amountToJoinPot) {
-    if (numberOfMarkers >= amountToJoinPot) {
-      return true;
+  /*
+   * The main pot first and then the side pots, built from the layout of the side pots. Every distinct amount paid ends
+   * a pot that the players paying at least that much are members of. Without bets there is one empty pot.
+   */
+  public List<Pot> getPots() {
+    final int numberOfPots = sidePots.getNumberOfPots();
+    if (numberOfPots == 0) {
+      return Lists.newArrayList(Pot.EMPTY);
     }
-    logger.trace("Can't join pot, number of markers {{}} amountToJoinPot {{}}", numberOfMarkers, amountToJoinPot);
-    return false;
-  }
-
-  private boolean isPotSplit(Pot potToSplit) {
-    return potToSplit != null;
-  }
-
-  private void putMarkersToPot(Pot pot, Player player, int markers) {
-    logger.debug("Adding [{}] with [{}] markers to pot [{}]. ", player.getName(), markers, pots.indexOf(pot));
-    if (pot.hasMember(player)) {
-      pot.addMarkersForMember(player, markers);
-    } else {
-      pot.addMember(player, markers);
+    final List<Pot> pots = Lists.newArrayListWithCapacity(numberOfPots);
+    for (int pot = 0; pot < numberOfPots; pot++) {
+      pots.add(getPot(pot));
     }
-  }
-
-  public List<Pot> getPots() {
     return pots;
   }
 
   public void clear() {
-    pots.clear();
-    pots.add(new Pot());
     highestRaise = 0;
+    sidePots.clear();
   }
 
   public int getNumberOfMarkersInAllPots() {
-    int numberOfMarkers = 0;
-    for (Pot pot : pots) {
-      numberOfMarkers += pot.getNumberOfMarkers();
-    }
-    return numberOfMarkers;
+    return summary.getTotal();
   }
 
+  /*
+   * Builds pot i only, the members are in seat order
+   */
   public Pot getPot(int i) {
-    return pots.get(i);
+    final int numberOfPots = sidePots.getNumberOfPots();
+    if (i == 0 && numberOfPots == 0) {
+      return Pot.EMPTY;
+    }
+    if (i < 0 || i >= numberOfPots) {
+      throw new RuntimeException("There is no pot [" + i + "] of [" + numberOfPots + "]");
+    }
+    final List<Player> members = Lists.newArrayList();
+    for (int seat = 0; seat < sidePots.getNumberOfSeats(); seat++) {
+      if (sidePots.isMember(i, seat)) {
+        members.add(tableSeats.getPlayer(seat));
+      }
+    }
+    return new Pot(members, sidePots.getMarkersPerMember(i));
+  }
+
+  int[] getPotSizes() {
+    return sidePots.getPotSizes();
   }
 
   public int getPlayerPartInPots(Player player) {
-    int markersInPot = 0;
-    for (Pot pot : pots) {
-      if (pot.hasMember(player)) {
-        markersInPot += pot.getMarkersForMember(player);
-      }
-    }
-    return markersInPot;
+    return summary.getPlayerPart(player);
   }
 
+  /*
+   * The player that paid the most is a member of every pot with the highest amount in it
+   */
   public int getAmountToJoinPot() {
-    int amountToJoinPot = 0;
-    for (Pot pot:pots) {
-      amountToJoinPot += pot.getHighestAmount();
-    }
-    return amountToJoinPot;
+    return sidePots.getHighestContribution();
   }
 
   public int getMaxMarkersForAnyPlayer() {
-    if (pots.get(0) == null) return 0;
-
-    final List<Player> members = pots.get(0).getMembers();
-    int maxMarkers = 0;
-    for (Player player:members) {
-      final int playerPartInPots = getPlayerPartInPots(player);
-      if (playerPartInPots > maxMarkers) {
-        maxMarkers = playerPartInPots;
-      }
-    }
-    return maxMarkers;
+    return sidePots.getHighestContribution();
   }
 }
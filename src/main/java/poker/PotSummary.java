@@ -0,0 +1,17 @@
+package poker;
+
+/*
+ * What the betting needs to know about the pots in a round. Every answer comes from the markers paid per seat, the
+ * pots are never gone through to find it.
+ */
+interface PotSummary {
+
+  int getTotal();
+
+  int getPlayerPart(Player player);
+
+  /*
+   * The markers the player has to pay to have paid as much as the player that has paid the most
+   */
+  int getAmountToCall(Player player);
+}
@@ -0,0 +1,102 @@
+package poker;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+ * Win and tie probability of every starting hand against one to nine opponents with random hands, read once from
+ * the resource preflop-equity.bin made by PreflopEquityGenerator. A lookup is one array index.
+ *
+ * The 1326 possible private hands fall into 169 classes by the ranks of the two cards and whether they have the same
+ * color. A class is a cell in a 13 x 13 grid of ranks, the pairs are on the diagonal, suited hands have the higher
+ * rank as row and offsuit hands have the lower rank as row.
+ *
+ * The resource holds NUMBER_OF_CLASSES, MAX_NUMBER_OF_OPPONENTS and the number of showdowns played per entry as
+ * ints, then a win and a tie probability per class and number of opponents as chars scaled by PROBABILITY_SCALE.
+ */
+final class PreflopEquity {
+  private PreflopEquity() {}
+
+  static final String RESOURCE = "/preflop-equity.bin";
+  static final int NUMBER_OF_CLASSES = HandEvaluator.NUMBER_OF_RANKS * HandEvaluator.NUMBER_OF_RANKS;
+  static final int MAX_NUMBER_OF_OPPONENTS = 9;
+  static final int PROBABILITY_SCALE = Character.MAX_VALUE;
+
+  /*
+   * Loaded when the first probability is looked up
+   */
+  private static final class Table {
+    private static final float[] WIN = new float[NUMBER_OF_CLASSES * MAX_NUMBER_OF_OPPONENTS];
+    private static final float[] TIE = new float[NUMBER_OF_CLASSES * MAX_NUMBER_OF_OPPONENTS];
+
+    static {
+      try (InputStream resource = PreflopEquity.class.getResourceAsStream(RESOURCE)) {
+        if (resource == null) {
+          throw new RuntimeException("Could not find [" + RESOURCE + "]");
+        }
+        final DataInputStream in = new DataInputStream(resource);
+        if (in.readInt() != NUMBER_OF_CLASSES || in.readInt() != MAX_NUMBER_OF_OPPONENTS) {
+          throw new RuntimeException("[" + RESOURCE + "] does not match the starting hand classes");
+        }
+        in.readInt();
+        for (int i = 0; i < WIN.length; i++) {
+          WIN[i] = (float) in.readChar() / PROBABILITY_SCALE;
+          TIE[i] = (float) in.readChar() / PROBABILITY_SCALE;
+        }
+      } catch (IOException e) {
+        throw new RuntimeException("Could not read [" + RESOURCE + "]", e);
+      }
+    }
+  }
+
+  /*
+   * Ranks are 0 for two to 12 for ace
+   */
+  static int getStartingHandClass(int rank, int otherRank, boolean suited) {
+    final int highRank = Math.max(rank, otherRank);
+    final int lowRank = Math.min(rank, otherRank);
+    if (suited) {
+      return highRank * HandEvaluator.NUMBER_OF_RANKS + lowRank;
+    }
+    return lowRank * HandEvaluator.NUMBER_OF_RANKS + highRank;
+  }
+
+  static int getStartingHandClass(long privateCards) {
+    if (CardSet.size(privateCards) != 2) {
+      throw new RuntimeException("A starting hand has two cards, not [" + CardSet.size(privateCards) + "]");
+    }
+    final int bitIndex = Long.numberOfTrailingZeros(privateCards);
+    final int otherBitIndex = Long.SIZE - 1 - Long.numberOfLeadingZeros(privateCards);
+    return getStartingHandClass(CardSet.getRank(bitIndex), CardSet.getRank(otherBitIndex),
+                                CardSet.getColorValue(bitIndex) == CardSet.getColorValue(otherBitIndex));
+  }
+
+  static float getWinProbability(long privateCards, int numberOfOpponents) {
+    return Table.WIN[getIndex(getStartingHandClass(privateCards), numberOfOpponents)];
+  }
+
+  static float getTieProbability(long privateCards, int numberOfOpponents) {
+    return Table.TIE[getIndex(getStartingHandClass(privateCards), numberOfOpponents)];
+  }
+
+  static float getLossProbability(long privateCards, int numberOfOpponents) {
+    final int index = getIndex(getStartingHandClass(privateCards), numberOfOpponents);
+    return 1 - Table.WIN[index] - Table.TIE[index];
+  }
+
+  /*
+   * Expected share of the pot, a tie is counted as half the pot
+   */
+  static float getEquity(long privateCards, int numberOfOpponents) {
+    final int index = getIndex(getStartingHandClass(privateCards), numberOfOpponents);
+    return Table.WIN[index] + Table.TIE[index] / 2;
+  }
+
+  static int getIndex(int startingHandClass, int numberOfOpponents) {
+    if (numberOfOpponents < 1 || numberOfOpponents > MAX_NUMBER_OF_OPPONENTS) {
+      throw new RuntimeException("No preflop equity for [" + numberOfOpponents + "] opponents");
+    }
+    return startingHandClass * MAX_NUMBER_OF_OPPONENTS + numberOfOpponents - 1;
+  }
+}
@@ -0,0 +1,118 @@
+package poker;
+
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/*
+ * Generates the table read by PreflopEquity. For every starting hand class and number of opponents one hand of the
+ * class plays a number of showdowns against random hands on random boards, the same showdowns as the Monte Carlo
+ * calculation of EquityCalculator.
+ *
+ * Every class is a task with its own random source split from the source of the generator, so a seeded generator
+ * makes the same table regardless of how many threads it runs on.
+ *
+ * Run with gradle generatePreflopEquity, the arguments are the file to write and the number of showdowns per entry.
+ */
+final class PreflopEquityGenerator {
+  private PreflopEquityGenerator() {}
+
+  private static final Logger logger = LogManager.getLogger(PreflopEquityGenerator.class);
+  private static final String DEFAULT_FILE = "src/main/resources" + PreflopEquity.RESOURCE;
+  private static final int DEFAULT_NUMBER_OF_SHOWDOWNS = 1 << 18;
+  private static final long SEED = 4711;
+  private static final int NUMBER_OF_COMMON_CARDS = 5;
+
+  public static void main(String[] args) throws IOException {
+    final String file = args.length > 0 ? args[0] : DEFAULT_FILE;
+    final int numberOfShowdowns = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_SHOWDOWNS;
+    final long start = System.nanoTime();
+    final char[][] table = generate(numberOfShowdowns, Runtime.getRuntime().availableProcessors(),
+                                    new XoroshiroRandomSource(SEED));
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      write(out, numberOfShowdowns, table);
+    }
+    logger.info("Wrote [" + file + "] in [" + (System.nanoTime() - start) / 1e9 + "] s");
+  }
+
+  /*
+   * Returns the win and the tie probabilities scaled by PreflopEquity.PROBABILITY_SCALE, indexed by
+   * PreflopEquity.getIndex
+   */
+  static char[][] generate(int numberOfShowdowns, int numberOfThreads, RandomSource randomSource) {
+    final List<Callable<char[][]>> tasks = new ArrayList<>();
+    for (int startingHandClass = 0; startingHandClass < PreflopEquity.NUMBER_OF_CLASSES; startingHandClass++) {
+      final int taskClass = startingHandClass;
+      final RandomSource taskRandomSource = randomSource.split();
+      tasks.add(() -> generateClass(taskClass, numberOfShowdowns, taskRandomSource));
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      final List<Future<char[][]>> results = executor.invokeAll(tasks);
+      final int tableSize = PreflopEquity.NUMBER_OF_CLASSES * PreflopEquity.MAX_NUMBER_OF_OPPONENTS;
+      final char[][] table = {new char[tableSize], new char[tableSize]};
+      for (int startingHandClass = 0; startingHandClass < results.size(); startingHandClass++) {
+        final char[][] classResult = results.get(startingHandClass).get();
+        final int firstIndex = PreflopEquity.getIndex(startingHandClass, 1);
+        System.arraycopy(classResult[0], 0, table[0], firstIndex, PreflopEquity.MAX_NUMBER_OF_OPPONENTS);
+        System.arraycopy(classResult[1], 0, table[1], firstIndex, PreflopEquity.MAX_NUMBER_OF_OPPONENTS);
+      }
+      return table;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Generation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Generation failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  static void write(DataOutputStream out, int numberOfShowdowns, char[][] table) throws IOException {
+    out.writeInt(PreflopEquity.NUMBER_OF_CLASSES);
+    out.writeInt(PreflopEquity.MAX_NUMBER_OF_OPPONENTS);
+    out.writeInt(numberOfShowdowns);
+    for (int i = 0; i < table[0].length; i++) {
+      out.writeChar(table[0][i]);
+      out.writeChar(table[1][i]);
+    }
+  }
+
+  private static char[][] generateClass(int startingHandClass, int numberOfShowdowns, RandomSource randomSource) {
+    final long privateCards = getRepresentativeHand(startingHandClass);
+    final int[] deck = EquityCalculator.getCardsLeft(privateCards);
+    final char[][] result = {new char[PreflopEquity.MAX_NUMBER_OF_OPPONENTS], new char[PreflopEquity.MAX_NUMBER_OF_OPPONENTS]};
+    for (int numberOfOpponents = 1; numberOfOpponents <= PreflopEquity.MAX_NUMBER_OF_OPPONENTS; numberOfOpponents++) {
+      final Equity equity = EquityCalculator.playRandomShowdowns(privateCards, CardSet.NO_CARDS, deck,
+                                                                 NUMBER_OF_COMMON_CARDS, numberOfOpponents,
+                                                                 numberOfShowdowns, randomSource);
+      result[0][numberOfOpponents - 1] = toScaledProbability(equity.getWinProbability());
+      result[1][numberOfOpponents - 1] = toScaledProbability(equity.getTieProbability());
+    }
+    return result;
+  }
+
+  /*
+   * A hand of the class, pairs and offsuit hands are hearts and spades and suited hands are hearts
+   */
+  static long getRepresentativeHand(int startingHandClass) {
+    final int row = startingHandClass / HandEvaluator.NUMBER_OF_RANKS;
+    final int column = startingHandClass % HandEvaluator.NUMBER_OF_RANKS;
+    final int otherColor = row > column ? Color.hearts.getValue() : Color.spades.getValue();
+    return 1L << CardSet.getBitIndex(Color.hearts.getValue(), row) | 1L << CardSet.getBitIndex(otherColor, column);
+  }
+
+  private static char toScaledProbability(double probability) {
+    return (char) Math.round(probability * PreflopEquity.PROBABILITY_SCALE);
+  }
+}
@@ -0,0 +1,19 @@
+package poker;
+
+/*
+ * Source of random numbers used when shuffling. Implementations created from a seed give the same sequence for the
+ * same seed, so a game can be replayed. A simulation running on several threads splits one source per thread, the
+ * split sources are independent of each other and are never shared between threads.
+ */
+interface RandomSource {
+
+  /*
+   * Uniformly distributed int from 0 (inclusive) to bound (exclusive)
+   */
+  int nextInt(int bound);
+
+  /*
+   * A new source with a sequence independent of this one
+   */
+  RandomSource split();
+}
@@ -1,12 +1,10 @@
 package poker;
 
 import java.util.List;
-import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.google.common.collect.Lists;
 
 import static poker.Strategy.ALL_IN;
 import static poker.Strategy.JOIN;
@@ -18,6 +16,8 @@ public class RobotPlayer extends Player {
 
   private static final Logger logger = LogManager.getLogger(RobotPlayer.class);
 
+  private static final int NUMBER_OF_CARDS_ON_PRIVATE_HAND = 2;
+
   private Points points;
 
   public RobotPlayer(String playerName, int totalMarkersPerPlayer) {
@@ -33,13 +33,13 @@ public class RobotPlayer extends Player {
 
     switch (draw) {
       case BEFORE_FLOP:
-        // No common hand to care
-        // Pair is good, getAmount or go all in if pot is big
-        if (points.totalPoints > 113) {
-          // Pair of aces and higher
+        // No common hand to care, the equity of the private hand against the others in the hand falls with every player
+        final float equity = calculatePreflopEquity(numberOfRemainingPlayers);
+        if (equity > 0.7f) {
+          // A pair of nines or better heads up, only a pair of aces against two players and no hand against more
           strategy = ALL_IN;
-          // Pair
-        } else if (points.totalPoints > 100) {
+        } else if (equity > 0.65f || EvaluationHandler.getPokerHand(EvaluationHandler.rank(getPrivateCards())) == PokerHand.PAIR) {
+          // Any pair is good
           strategy = OFFENSIVE;
         } else {
           strategy = JOIN_IF_CHEAP;
@@ -81,7 +81,7 @@ public class RobotPlayer extends Player {
         }
         break;
     }
-    logger.debug("Player " + getName() + " has strategy " + strategy + ". ");
+    logger.debug("Player {} has strategy {}. ", getName(), strategy);
   }
 
   /*
@@ -96,40 +96,46 @@ public class RobotPlayer extends Player {
                            int maxRaiseFromAPlayerThisRound,
                            int maxRaiseThisDraw,
                            int playersPartInPots) {
-    logger.debug("Player :[" + getName() + "] calculatedRaiseAmount: [" + calculatedRaiseAmount + "] maxRaiseFromAPlayerThisRound :[" + maxRaiseFromAPlayerThisRound + "] maxRaiseThisDraw :[" + maxRaiseThisDraw + "]");
+    if (EngineLogging.ENABLED) {
+      logger.debug("Player :[{}] calculatedRaiseAmount: [{}] maxRaiseFromAPlayerThisRound :[{}] maxRaiseThisDraw :[{}]",
+                   getName(), calculatedRaiseAmount, maxRaiseFromAPlayerThisRound, maxRaiseThisDraw);
+    }
 
     if (hasBlind()) {
       if (action.getAmount() > calculatedRaiseAmount) {
         calculatedRaiseAmount = action.getAmount();
       }
     }
+    final ActionEnum decision;
     int raiseAmount;
     // If player has no more markers player need to go all in
     if (strategy.equals(ALL_IN) || needToGoAllIn(calculatedRaiseAmount)) {
-      action = new Action(ActionEnum.ALL_IN);
+      decision = ActionEnum.ALL_IN;
       raiseAmount = getNumberOfMarkers();
     } else if (calculatedRaiseAmount > maxRaiseFromAPlayerThisRound) {
       if (BetManager.shallPayToPot(playersPartInPots, calculatedRaiseAmount)) {
-        action = new Action(ActionEnum.RAISE);
+        decision = ActionEnum.RAISE;
       } else {
-        action = new Action(ActionEnum.CHECK);
+        decision = ActionEnum.CHECK;
       }
       raiseAmount = calculatedRaiseAmount;
     } else if (isWithin(calculatedRaiseAmount, maxRaiseFromAPlayerThisRound)) {
-      action = new Action(ActionEnum.CHECK);
+      decision = ActionEnum.CHECK;
       raiseAmount = maxRaiseFromAPlayerThisRound;
     } else {
       // If no one is raises there is no need to fold
       if (noRaiseThisDraw(maxRaiseThisDraw)) {
         logger.trace("No raise this draw. ");
-        action = new Action(ActionEnum.CHECK);
+        decision = ActionEnum.CHECK;
       } else {
-        action = new Action(ActionEnum.FOLD);
+        decision = ActionEnum.FOLD;
       }
       raiseAmount = 0;
     }
-    action.setAmount(raiseAmount);
-    logger.trace("Set raise amount for player {{}} to {{}}", getName(), calculatedRaiseAmount);
+    action = Action.of(decision, raiseAmount);
+    if (EngineLogging.ENABLED) {
+      logger.trace("Set raise amount for player {{}} to {{}}", getName(), calculatedRaiseAmount);
+    }
     partInPot += raiseAmount;
   }
 
@@ -179,40 +185,58 @@ public class RobotPlayer extends Player {
     if (individualRaiseAmount > getNumberOfMarkers()) {
       individualRaiseAmount = getNumberOfMarkers();
     }
-    logger.debug(getName() + " getAmount amount: " + individualRaiseAmount);
+    if (EngineLogging.ENABLED) {
+      logger.debug("{} getAmount amount: {}", getName(), individualRaiseAmount);
+    }
     return individualRaiseAmount;
   }
 
   Points calculatePoints(int numberOfRemainingPlayers, Draw draw, List<Card> commonHand) {
     Points points = new Points();
     int commonPoints = 0;
-    int privatePoints = calculatePrivatePoints(getPrivateHand());
-    logger.trace(getName() + " private points: " + privatePoints);
+    final long commonCards = CardSet.toLong(commonHand);
+    int privatePoints = calculatePrivatePoints(getPrivateCards());
     // privatePoints = compensatePrivateHandWithNumberOfPlayers(privatePoints, numberOfRemainingPlayers);
     if (draw != Draw.BEFORE_FLOP) {
-      commonPoints = calculateCommonPoints(numberOfRemainingPlayers, commonHand);
+      commonPoints = calculateCommonPoints(numberOfRemainingPlayers, commonCards);
+    }
+    int totalHandPoints = calculateTotalHandPoints(commonCards);
+    if (EngineLogging.ENABLED) {
+      logger.debug("{} total points: {} private points compensated: {} common points compensated: {}",
+                   getName(), totalHandPoints, privatePoints, commonPoints);
     }
-    List<Card> totalHand = Lists.newArrayList();
-    totalHand.addAll(getPrivateHand());
-    totalHand.addAll(commonHand);
-    int totalHandPoints = calculateTotalHandPoints(totalHand);
-    logger.debug(getName() + " total points: " + totalHandPoints + " private points compensated: " + privatePoints + " common points compensated: " + commonPoints);
     points.privatePoints = privatePoints;
     points.commonPoints = commonPoints;
     points.totalPoints = totalHandPoints;
     return points;
   }
 
-  private int calculateTotalHandPoints(List<Card> totalHand) {
-    final Map<Card, PokerResult> totalPointsMap = EvaluationHandler.evaluateHand("common", totalHand);
-    int totalHandPoints = EvaluationHandler.getResultFromCardPokerResultMap(totalPointsMap).getPoints();
-    logger.trace("Total hand result for player {{}} : {{}}", getName(), EvaluationHandler.calculateResultFromHand(totalHand));
-    return totalHandPoints;
+  private int calculateTotalHandPoints(long commonCards) {
+    // The dealer has already ranked the hand of this street
+    final int rank = rank(commonCards);
+    if (EngineLogging.ENABLED) {
+      logger.trace("Total hand result for player {{}} : {{}}", getName(), EvaluationHandler.getPokerHand(rank));
+    }
+    return EvaluationHandler.getPoints(rank);
   }
 
-  private int calculatePrivatePoints(List<Card> hand) {
-    final Map<Card, PokerResult> cardPokerResultMap = EvaluationHandler.evaluateHand(getName(), hand);
-    return EvaluationHandler.calculatePointsFromHand(cardPokerResultMap);
+  private int calculatePrivatePoints(long hand) {
+    return EvaluationHandler.getPoints(EvaluationHandler.rank(hand));
+  }
+
+  /*
+   * Preflop equity of the private hand against the other players in the hand
+   */
+  private float calculatePreflopEquity(int numberOfRemainingPlayers) {
+    if (CardSet.size(getPrivateCards()) != NUMBER_OF_CARDS_ON_PRIVATE_HAND) {
+      return 0;
+    }
+    final int numberOfOpponents = Math.max(1, Math.min(PreflopEquity.MAX_NUMBER_OF_OPPONENTS, numberOfRemainingPlayers - 1));
+    final float equity = PreflopEquity.getEquity(getPrivateCards(), numberOfOpponents);
+    if (EngineLogging.ENABLED) {
+      logger.debug("{} preflop equity against {} opponents: {}", getName(), numberOfOpponents, equity);
+    }
+    return equity;
   }
 
   /**
@@ -227,9 +251,8 @@ public class RobotPlayer extends Player {
     return privatePoints;
   }
 
-  private int calculateCommonPoints(int numberOfRemainingPlayers, List<Card> commonHand) {
-    final Map<Card, PokerResult> commonPointsMap = EvaluationHandler.evaluateHand("common", commonHand);
-    int commonHandPoints = EvaluationHandler.getResultFromCardPokerResultMap(commonPointsMap).getPoints();
+  private int calculateCommonPoints(int numberOfRemainingPlayers, long commonCards) {
+    int commonHandPoints = EvaluationHandler.getPoints(EvaluationHandler.rank(commonCards));
     // less probability that a common hand might fit another players hand
     if (numberOfRemainingPlayers < 4) {
       commonHandPoints = commonHandPoints / 2;
@@ -0,0 +1,111 @@
+package poker;
+
+import java.util.Arrays;
+
+/*
+ * Ranks the private cards of all players against the common cards in one go. The rank masks, the ranks and the
+ * number of duplicates of the common cards are found once, every player then only adds the two private cards to
+ * them before the hand is evaluated. Only a color with three common cards or more can make a flush, so the flush
+ * check is skipped for all players when there is none.
+ *
+ * Players are given by index into arrays, a player with no private cards has folded and can not win.
+ */
+final class Showdown {
+  private Showdown() {}
+
+  static final int FOLDED = -1;
+  private static final int MIN_NUMBER_OF_COMMON_CARDS_FOR_FLUSH = 3;
+  private static final int NUMBER_OF_CARDS_IN_FLUSH = 5;
+
+  /*
+   * Writes the rank of every player to ranks, FOLDED for players without private cards, and returns the best rank
+   */
+  static int rank(long commonCards, long[] privateCards, int numberOfPlayers, int[] ranks) {
+    final int commonClubs = CardSet.getColorMask(commonCards, Color.clubs);
+    final int commonDiamonds = CardSet.getColorMask(commonCards, Color.diamonds);
+    final int commonSpades = CardSet.getColorMask(commonCards, Color.spades);
+    final int commonHearts = CardSet.getColorMask(commonCards, Color.hearts);
+    final int commonRanks = commonClubs | commonDiamonds | commonSpades | commonHearts;
+    final int numberOfCommonCards = CardSet.size(commonCards);
+    final Color flushDrawColor = findFlushDrawColor(commonCards);
+    int highScore = FOLDED;
+    for (int player = 0; player < numberOfPlayers; player++) {
+      final long cards = privateCards[player];
+      if (cards == CardSet.NO_CARDS) {
+        ranks[player] = FOLDED;
+        continue;
+      }
+      final int ranksInHand = commonRanks | CardSet.getColorMask(cards, Color.clubs) | CardSet.getColorMask(cards, Color.diamonds)
+                              | CardSet.getColorMask(cards, Color.spades) | CardSet.getColorMask(cards, Color.hearts);
+      final int duplicates = numberOfCommonCards + CardSet.size(cards) - Integer.bitCount(ranksInHand);
+      int flushColor = 0;
+      if (flushDrawColor != null) {
+        final int colorMask = CardSet.getColorMask(commonCards | cards, flushDrawColor);
+        if (Integer.bitCount(colorMask) >= NUMBER_OF_CARDS_IN_FLUSH) {
+          flushColor = colorMask;
+        }
+      }
+      ranks[player] = HandEvaluator.evaluate(commonClubs | CardSet.getColorMask(cards, Color.clubs),
+                                             commonDiamonds | CardSet.getColorMask(cards, Color.diamonds),
+                                             commonSpades | CardSet.getColorMask(cards, Color.spades),
+                                             commonHearts | CardSet.getColorMask(cards, Color.hearts),
+                                             ranksInHand,
+                                             duplicates,
+                                             flushColor);
+      if (ranks[player] > highScore) {
+        highScore = ranks[player];
+      }
+    }
+    return highScore;
+  }
+
+  /*
+   * Ranks all players and writes the indexes of the players with the best rank to winners, in player order. Returns
+   * the number of winners, more than one when the pot shall be split and 0 when every player has folded.
+   */
+  static int findWinners(long commonCards, long[] privateCards, int numberOfPlayers, int[] ranks, int[] winners) {
+    rank(commonCards, privateCards, numberOfPlayers, ranks);
+    return findWinners(ranks, numberOfPlayers, winners);
+  }
+
+  /*
+   * Writes the indexes of the players with the best of the given ranks to winners, for ranks that are already known
+   * like the ranks the players keep in their hand state
+   */
+  static int findWinners(int[] ranks, int numberOfPlayers, int[] winners) {
+    int highScore = FOLDED;
+    for (int player = 0; player < numberOfPlayers; player++) {
+      if (ranks[player] > highScore) {
+        highScore = ranks[player];
+      }
+    }
+    if (highScore == FOLDED) {
+      return 0;
+    }
+    int numberOfWinners = 0;
+    for (int player = 0; player < numberOfPlayers; player++) {
+      if (ranks[player] == highScore) {
+        winners[numberOfWinners++] = player;
+      }
+    }
+    return numberOfWinners;
+  }
+
+  static int[] findWinners(long commonCards, long[] privateCards) {
+    final int[] ranks = new int[privateCards.length];
+    final int[] winners = new int[privateCards.length];
+    return Arrays.copyOf(winners, findWinners(commonCards, privateCards, privateCards.length, ranks, winners));
+  }
+
+  /*
+   * With five common cards or less at most one color has three of them
+   */
+  private static Color findFlushDrawColor(long commonCards) {
+    for (Color color : Color.values()) {
+      if (Integer.bitCount(CardSet.getColorMask(commonCards, color)) >= MIN_NUMBER_OF_COMMON_CARDS_FOR_FLUSH) {
+        return color;
+      }
+    }
+    return null;
+  }
+}
@@ -2,11 +2,18 @@ package poker;
 
 class Shuffle {
 
-  private Shuffle() {}
-
   private static final int OFFSET_TWO = 2;
+  private RandomSource randomSource;
+
+  Shuffle(RandomSource randomSource) {
+    this.randomSource = randomSource;
+  }
+
+  void setRandomSource(RandomSource randomSource) {
+    this.randomSource = randomSource;
+  }
 
-  static Ordinal getRandomOrdinal() {
+  Ordinal getRandomOrdinal() {
     int randomOrdinalValue = getRandomNumberUpToValue(Ordinal.values().length) + OFFSET_TWO;
     Ordinal[] ordinals = Ordinal.values();
     Ordinal ordinalValueMatch = null;
@@ -21,7 +28,7 @@ class Shuffle {
     return ordinalValueMatch;
   }
 
-  static Color getRandomColor() {
+  Color getRandomColor() {
     int randomColorValue = getRandomNumberUpToValue(Color.values().length);
     Color[] colorValues = Color.values();
     Color colorValueMatch = null;
@@ -36,8 +43,19 @@ class Shuffle {
     return colorValueMatch;
   }
 
-  private static int getRandomNumberUpToValue(int limit) {
-    double randomNo = Math.random() * limit;
-    return (int)randomNo;
+  /*
+   * Fisher-Yates shuffle, every permutation is equally likely
+   */
+  void shuffle(int[] values) {
+    for (int i = values.length - 1; i > 0; i--) {
+      final int j = getRandomNumberUpToValue(i + 1);
+      final int value = values[i];
+      values[i] = values[j];
+      values[j] = value;
+    }
+  }
+
+  private int getRandomNumberUpToValue(int limit) {
+    return randomSource.nextInt(limit);
   }
 }
@@ -0,0 +1,183 @@
+package poker;
+
+import java.util.Arrays;
+
+/*
+ * Keeps the markers every seat has put into the pot during a round, nothing else is updated when a seat bets. The
+ * main pot and the side pots are found by sorting the seats on how much they paid: every distinct amount ends a pot
+ * that the seats paying at least that much share. The layout is kept until the next bet, so asking for the pots
+ * again does not sort again.
+ *
+ * Use case: Peter pays 550, Thomas 500, Ingemar 125 and Anders 150. The pots are 4 x 125 for all of them,
+ * 3 x 25 without Ingemar, 2 x 350 for Peter and Thomas and 50 that Peter gets back if he does not fold.
+ */
+final class SidePots {
+
+  private static final int INITIAL_NUMBER_OF_SEATS = 10;
+
+  private int[] contributions = new int[INITIAL_NUMBER_OF_SEATS];
+  private int numberOfSeats = 0;
+  private int total = 0;
+  private int highestContribution = 0;
+
+  // The layout of the pots, found again only when it is asked for after a bet
+  private boolean isLayoutValid = true;
+  private long[] packedSeats = new long[INITIAL_NUMBER_OF_SEATS];
+  private int[] sortedSeats = new int[INITIAL_NUMBER_OF_SEATS];
+  private int numberOfPayingSeats = 0;
+  private int[] potLevels = new int[INITIAL_NUMBER_OF_SEATS];
+  private int[] firstSeatInPot = new int[INITIAL_NUMBER_OF_SEATS];
+  private int numberOfPots = 0;
+
+  void add(int seat, int markers) {
+    if (seat >= contributions.length) {
+      final int capacity = Math.max(seat + 1, contributions.length * 2);
+      contributions = Arrays.copyOf(contributions, capacity);
+      packedSeats = new long[capacity];
+      sortedSeats = new int[capacity];
+      potLevels = new int[capacity];
+      firstSeatInPot = new int[capacity];
+    }
+    isLayoutValid = false;
+    if (seat >= numberOfSeats) {
+      numberOfSeats = seat + 1;
+    }
+    contributions[seat] += markers;
+    total += markers;
+    if (contributions[seat] > highestContribution) {
+      highestContribution = contributions[seat];
+    }
+  }
+
+  int getContribution(int seat) {
+    return seat < numberOfSeats ? contributions[seat] : 0;
+  }
+
+  int getNumberOfSeats() {
+    return numberOfSeats;
+  }
+
+  int getTotal() {
+    return total;
+  }
+
+  int getHighestContribution() {
+    return highestContribution;
+  }
+
+  int getNumberOfPots() {
+    updateLayout();
+    return numberOfPots;
+  }
+
+  /*
+   * The markers every member paid into the pot, the main pot is pot 0
+   */
+  int getMarkersPerMember(int pot) {
+    updateLayout();
+    return potLevels[pot] - getLevelBefore(pot);
+  }
+
+  boolean isMember(int pot, int seat) {
+    updateLayout();
+    return getContribution(seat) > getLevelBefore(pot);
+  }
+
+  int getPotSize(int pot) {
+    updateLayout();
+    return getMarkersPerMember(pot) * (numberOfPayingSeats - firstSeatInPot[pot]);
+  }
+
+  /*
+   * Returns the size of every pot, the main pot first
+   */
+  int[] getPotSizes() {
+    final int[] potSizes = new int[getNumberOfPots()];
+    for (int pot = 0; pot < potSizes.length; pot++) {
+      potSizes[pot] = getPotSize(pot);
+    }
+    return potSizes;
+  }
+
+  /*
+   * Writes what every seat gets back from the pots to payouts, given the rank of every seat from the showdown and
+   * Showdown.FOLDED for seats that can't win. The best ranked seats that paid into a pot share it, the markers left
+   * over when it can't be split evenly go to the lowest of their seats. A pot that only folded seats paid into goes
+   * back to them.
+   */
+  void settle(int[] ranks, int[] payouts) {
+    Arrays.fill(payouts, 0, numberOfSeats, 0);
+    updateLayout();
+    for (int pot = 0; pot < numberOfPots; pot++) {
+      final int firstSeat = firstSeatInPot[pot];
+      final int slice = getMarkersPerMember(pot);
+      int highScore = Showdown.FOLDED;
+      for (int i = firstSeat; i < numberOfPayingSeats; i++) {
+        highScore = Math.max(highScore, ranks[sortedSeats[i]]);
+      }
+      if (highScore == Showdown.FOLDED) {
+        for (int i = firstSeat; i < numberOfPayingSeats; i++) {
+          payouts[sortedSeats[i]] += slice;
+        }
+        continue;
+      }
+      int numberOfWinners = 0;
+      int firstWinner = Integer.MAX_VALUE;
+      for (int i = firstSeat; i < numberOfPayingSeats; i++) {
+        if (ranks[sortedSeats[i]] == highScore) {
+          numberOfWinners++;
+          firstWinner = Math.min(firstWinner, sortedSeats[i]);
+        }
+      }
+      final int potSize = getPotSize(pot);
+      final int share = potSize / numberOfWinners;
+      for (int i = firstSeat; i < numberOfPayingSeats; i++) {
+        if (ranks[sortedSeats[i]] == highScore) {
+          payouts[sortedSeats[i]] += share;
+        }
+      }
+      payouts[firstWinner] += potSize - share * numberOfWinners;
+    }
+  }
+
+  void clear() {
+    Arrays.fill(contributions, 0, numberOfSeats, 0);
+    numberOfSeats = 0;
+    total = 0;
+    highestContribution = 0;
+    isLayoutValid = false;
+  }
+
+  private int getLevelBefore(int pot) {
+    return pot == 0 ? 0 : potLevels[pot - 1];
+  }
+
+  /*
+   * Sorts the seats that paid anything, fewest markers first, and ends a pot at every distinct amount. Contribution
+   * and seat are packed in one long so a primitive sort is enough.
+   */
+  private void updateLayout() {
+    if (isLayoutValid) {
+      return;
+    }
+    numberOfPayingSeats = 0;
+    for (int seat = 0; seat < numberOfSeats; seat++) {
+      if (contributions[seat] > 0) {
+        packedSeats[numberOfPayingSeats++] = (long) contributions[seat] << Integer.SIZE | seat;
+      }
+    }
+    Arrays.sort(packedSeats, 0, numberOfPayingSeats);
+    numberOfPots = 0;
+    int level = 0;
+    for (int i = 0; i < numberOfPayingSeats; i++) {
+      sortedSeats[i] = (int) packedSeats[i];
+      final int contribution = contributions[sortedSeats[i]];
+      if (contribution > level) {
+        potLevels[numberOfPots] = contribution;
+        firstSeatInPot[numberOfPots++] = i;
+        level = contribution;
+      }
+    }
+    isLayoutValid = true;
+  }
+}
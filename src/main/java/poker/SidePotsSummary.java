@@ -0,0 +1,32 @@
+package poker;
+
+/*
+ * The summary of the pots of a pot handler, read from the markers paid per seat in its side pots. It follows the
+ * bets without being fetched again.
+ */
+final class SidePotsSummary implements PotSummary {
+
+  private final SidePots sidePots;
+  private final TableSeats tableSeats;
+
+  SidePotsSummary(SidePots sidePots, TableSeats tableSeats) {
+    this.sidePots = sidePots;
+    this.tableSeats = tableSeats;
+  }
+
+  @Override
+  public int getTotal() {
+    return sidePots.getTotal();
+  }
+
+  @Override
+  public int getPlayerPart(Player player) {
+    final int seat = tableSeats.getSeat(player);
+    return seat == TableSeats.NO_SEAT ? 0 : sidePots.getContribution(seat);
+  }
+
+  @Override
+  public int getAmountToCall(Player player) {
+    return sidePots.getHighestContribution() - getPlayerPart(player);
+  }
+}
@@ -0,0 +1,141 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/*
+ * Plays showdown hands for a table of players on several threads. The hands are divided in tasks of a fixed size,
+ * every task has its own deck, its own random source split from the source of the engine and its own statistics.
+ * Nothing is shared between the tasks while they run, the statistics are merged when all tasks are done.
+ *
+ * Since the tasks and their random sources do not depend on the number of threads, a seeded engine gives the same
+ * result regardless of how many threads it runs on.
+ *
+ * Finished tasks are merged while the others still run, so a long simulation can report its progress.
+ */
+class SimulationEngine {
+
+  private static final Logger logger = LogManager.getLogger(SimulationEngine.class);
+  private static final int HANDS_PER_TASK = 1 << 16;
+  private static final int NUMBER_OF_CARDS_ON_PRIVATE_HAND = 2;
+  private static final int NUMBER_OF_CARD_FOR_FLOP = 3;
+  private static final int NUMBER_OF_COMMON_AND_SKIPPED_CARDS = 8;
+
+  private final int numberOfPlayers;
+  private final int numberOfThreads;
+  private final RandomSource randomSource;
+
+  SimulationEngine(int numberOfPlayers, int numberOfThreads, RandomSource randomSource) {
+    if (numberOfPlayers < 2 || numberOfPlayers * NUMBER_OF_CARDS_ON_PRIVATE_HAND + NUMBER_OF_COMMON_AND_SKIPPED_CARDS > 52) {
+      throw new RuntimeException("Can not simulate a table with [" + numberOfPlayers + "] players");
+    }
+    this.numberOfPlayers = numberOfPlayers;
+    this.numberOfThreads = numberOfThreads;
+    this.randomSource = randomSource;
+  }
+
+  SimulationEngine(int numberOfPlayers, RandomSource randomSource) {
+    this(numberOfPlayers, Runtime.getRuntime().availableProcessors(), randomSource);
+  }
+
+  SimulationResult simulate(long numberOfHands) {
+    return simulate(numberOfHands, numberOfHands, result -> {});
+  }
+
+  /*
+   * The reporter is called from the calling thread with a snapshot of the merged result every time at least
+   * reportInterval more hands have been merged
+   */
+  SimulationResult simulate(long numberOfHands, long reportInterval, Consumer<SimulationResult> reporter) {
+    final long start = System.nanoTime();
+    final List<Callable<SimulationResult>> tasks = new ArrayList<>();
+    for (long firstHand = 0; firstHand < numberOfHands; firstHand += HANDS_PER_TASK) {
+      final int handsInTask = (int) Math.min(HANDS_PER_TASK, numberOfHands - firstHand);
+      final RandomSource taskRandomSource = randomSource.split();
+      tasks.add(() -> simulateTask(handsInTask, taskRandomSource));
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      final CompletionService<SimulationResult> completionService = new ExecutorCompletionService<>(executor);
+      tasks.forEach(completionService::submit);
+      final SimulationResult result = new SimulationResult(numberOfPlayers);
+      long nextReport = reportInterval;
+      for (int i = 0; i < tasks.size(); i++) {
+        result.merge(completionService.take().get());
+        if (result.getNumberOfHands() >= nextReport && result.getNumberOfHands() < numberOfHands) {
+          reporter.accept(result.snapshot());
+          nextReport = result.getNumberOfHands() + reportInterval;
+        }
+      }
+      final double seconds = (System.nanoTime() - start) / 1e9;
+      logger.info("Simulated [" + numberOfHands + "] hands on [" + numberOfThreads + "] threads in [" + seconds
+                  + "] s, [" + (long) (numberOfHands / seconds) + "] hands/s");
+      return result;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Simulation failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private SimulationResult simulateTask(int numberOfHands, RandomSource taskRandomSource) {
+    final Deck deck = new Deck(new Shuffle(taskRandomSource));
+    final SimulationResult result = new SimulationResult(numberOfPlayers);
+    final long[] privateCards = new long[numberOfPlayers];
+    final int[] handStrengths = new int[numberOfPlayers];
+    final int[] winners = new int[numberOfPlayers];
+    for (int hand = 0; hand < numberOfHands; hand++) {
+      if (hand > 0) {
+        deck.reset();
+      }
+      simulateHand(deck, result, privateCards, handStrengths, winners);
+    }
+    return result;
+  }
+
+  private void simulateHand(Deck deck, SimulationResult result, long[] privateCards, int[] handStrengths, int[] winners) {
+    for (int player = 0; player < numberOfPlayers; player++) {
+      privateCards[player] = dealCards(deck, result, NUMBER_OF_CARDS_ON_PRIVATE_HAND);
+    }
+    // A card is skipped before the flop, the turn and the river
+    dealCards(deck, result, 1);
+    long commonCards = dealCards(deck, result, NUMBER_OF_CARD_FOR_FLOP);
+    dealCards(deck, result, 1);
+    commonCards |= dealCards(deck, result, 1);
+    dealCards(deck, result, 1);
+    commonCards |= dealCards(deck, result, 1);
+
+    final int numberOfWinners = Showdown.findWinners(commonCards, privateCards, numberOfPlayers, handStrengths, winners);
+    final int highScore = handStrengths[winners[0]];
+    for (int i = 0; i < numberOfWinners; i++) {
+      result.addWin(winners[i], highScore);
+    }
+    if (numberOfWinners > 1) {
+      result.addSplitPot();
+    }
+    result.addHand();
+  }
+
+  private static long dealCards(Deck deck, SimulationResult result, int numberOfCards) {
+    long cards = CardSet.NO_CARDS;
+    for (int i = 0; i < numberOfCards; i++) {
+      final int bitIndex = deck.dealBitIndex();
+      result.addDrawnCard(bitIndex);
+      cards |= 1L << bitIndex;
+    }
+    return cards;
+  }
+}
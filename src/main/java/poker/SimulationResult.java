@@ -0,0 +1,107 @@
+package poker;
+
+/*
+ * Statistics from simulated hands. Every worker of the SimulationEngine fills its own result and the results are
+ * merged when all workers are done, so a result is never shared between threads while it is updated.
+ *
+ * A split pot is counted as a win for every player sharing the pot.
+ */
+class SimulationResult {
+
+  private final int numberOfPlayers;
+  private final WinStatistics winStatistics = new WinStatistics();
+  // Drawn cards indexed by CardSet bit index
+  private final long[] drawnCards = new long[Long.SIZE];
+  private long numberOfHands;
+  private long numberOfSplitPots;
+
+  SimulationResult(int numberOfPlayers) {
+    this.numberOfPlayers = numberOfPlayers;
+    for (int player = 0; player < numberOfPlayers; player++) {
+      winStatistics.addPlayer("Player " + (player + 1));
+    }
+  }
+
+  void addHand() {
+    numberOfHands++;
+  }
+
+  void addWin(int player, int handStrength) {
+    winStatistics.addWin(player, HandEvaluator.getCategory(handStrength));
+  }
+
+  void addSplitPot() {
+    numberOfSplitPots++;
+  }
+
+  void addDrawnCard(int bitIndex) {
+    drawnCards[bitIndex]++;
+  }
+
+  void merge(SimulationResult other) {
+    if (other.numberOfPlayers != numberOfPlayers) {
+      throw new RuntimeException("Can not merge results for [" + other.numberOfPlayers + "] players into results for ["
+                                 + numberOfPlayers + "] players");
+    }
+    winStatistics.merge(other.winStatistics);
+    for (int i = 0; i < drawnCards.length; i++) {
+      drawnCards[i] += other.drawnCards[i];
+    }
+    numberOfHands += other.numberOfHands;
+    numberOfSplitPots += other.numberOfSplitPots;
+  }
+
+  int getNumberOfPlayers() {
+    return numberOfPlayers;
+  }
+
+  long getNumberOfHands() {
+    return numberOfHands;
+  }
+
+  long getNumberOfSplitPots() {
+    return numberOfSplitPots;
+  }
+
+  long getNumberOfWins(int player, PokerHand pokerHand) {
+    return winStatistics.getNumberOfWins(player, pokerHand);
+  }
+
+  long getNumberOfWins(int player) {
+    return winStatistics.getNumberOfWins(player);
+  }
+
+  WinStatistics getWinStatistics() {
+    return winStatistics;
+  }
+
+  SimulationResult snapshot() {
+    final SimulationResult snapshot = new SimulationResult(numberOfPlayers);
+    snapshot.merge(this);
+    return snapshot;
+  }
+
+  long getNumberOfDrawnCards() {
+    long numberOfCards = 0;
+    for (long numberOfDraws : drawnCards) {
+      numberOfCards += numberOfDraws;
+    }
+    return numberOfCards;
+  }
+
+  long getNumberOfDrawnCardsWithColor(Color color) {
+    long numberOfColor = 0;
+    for (Ordinal ordinal : Ordinal.values()) {
+      numberOfColor += drawnCards[CardSet.getBitIndex(color, ordinal)];
+    }
+    return numberOfColor;
+  }
+
+  long getNumberOfDrawnCardsWithOrdinal(Ordinal ordinal) {
+    long numberOfOrdinal = 0;
+    for (Color color : Color.values()) {
+      numberOfOrdinal += drawnCards[CardSet.getBitIndex(color, ordinal)];
+    }
+    return numberOfOrdinal;
+  }
+}
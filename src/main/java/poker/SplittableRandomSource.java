@@ -0,0 +1,30 @@
+package poker;
+
+import java.util.SplittableRandom;
+
+class SplittableRandomSource implements RandomSource {
+
+  private final SplittableRandom random;
+
+  SplittableRandomSource() {
+    this(new SplittableRandom());
+  }
+
+  SplittableRandomSource(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private SplittableRandomSource(SplittableRandom random) {
+    this.random = random;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return random.nextInt(bound);
+  }
+
+  @Override
+  public RandomSource split() {
+    return new SplittableRandomSource(random.split());
+  }
+}
@@ -0,0 +1,63 @@
+package poker;
+
+import java.util.Arrays;
+
+/*
+ * The players at a table by seat. A player is given the next seat the first time it is seated and keeps it until the
+ * table is cleared, so a seat can index arrays that keep something per player instead of hashing the player.
+ *
+ * Only the table knows the seats, so a player can sit at the table of a dealer and at the one of a pot handler of its
+ * own without one of them moving it at the other. A table has a few players and a seat is found by comparing
+ * references.
+ */
+final class TableSeats {
+
+  static final int NO_SEAT = -1;
+
+  private Player[] players = new Player[PokerGame.MAX_NUMBER_OF_PLAYERS];
+  private int numberOfSeats = 0;
+
+  /*
+   * Returns the seat of the player, a player without a seat at this table is given the next one
+   */
+  int seat(Player player) {
+    final int seat = getSeat(player);
+    if (seat != NO_SEAT) {
+      return seat;
+    }
+    if (numberOfSeats == players.length) {
+      players = Arrays.copyOf(players, players.length * 2);
+    }
+    players[numberOfSeats] = player;
+    return numberOfSeats++;
+  }
+
+  /*
+   * The seat of the player at this table, NO_SEAT if it has none
+   */
+  int getSeat(Player player) {
+    for (int seat = 0; seat < numberOfSeats; seat++) {
+      if (players[seat] == player) {
+        return seat;
+      }
+    }
+    return NO_SEAT;
+  }
+
+  boolean isSeated(Player player) {
+    return getSeat(player) != NO_SEAT;
+  }
+
+  Player getPlayer(int seat) {
+    return players[seat];
+  }
+
+  int getNumberOfSeats() {
+    return numberOfSeats;
+  }
+
+  void clear() {
+    Arrays.fill(players, 0, numberOfSeats, null);
+    numberOfSeats = 0;
+  }
+}
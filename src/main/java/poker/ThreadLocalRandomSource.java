@@ -0,0 +1,21 @@
+package poker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Uses the generator of the calling thread. ThreadLocalRandom can not be seeded, use it when a game never has to
+ * be replayed.
+ */
+class ThreadLocalRandomSource implements RandomSource {
+
+  @Override
+  public int nextInt(int bound) {
+    return ThreadLocalRandom.current().nextInt(bound);
+  }
+
+  @Override
+  public RandomSource split() {
+    // Every thread already has its own generator
+    return this;
+  }
+}
@@ -0,0 +1,124 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Number of wins per player and poker hand. Memory does not grow with the number of hands, a win is one increment
+ * of a counter. Players are numbered in the order they are added.
+ *
+ * Not thread safe, a worker keeps its own statistics and they are merged into a total with merge(). snapshot() is
+ * a copy that can be reported while the statistics are still being updated.
+ */
+class WinStatistics {
+
+  private static final PokerHand[] POKER_HANDS = PokerHand.values();
+  private static final int NUMBER_OF_CATEGORIES = HandEvaluator.ROYAL_STRAIGHT_FLUSH + 1;
+
+  private final List<String> playerNames = new ArrayList<>();
+  private final Map<String, Integer> playerIndexes = new HashMap<>();
+  // Wins indexed by player * NUMBER_OF_CATEGORIES + PokerHand value / 100
+  private long[] wins = new long[0];
+
+  int addPlayer(String playerName) {
+    final Integer playerIndex = playerIndexes.get(playerName);
+    if (playerIndex != null) {
+      return playerIndex;
+    }
+    playerIndexes.put(playerName, playerNames.size());
+    playerNames.add(playerName);
+    wins = Arrays.copyOf(wins, playerNames.size() * NUMBER_OF_CATEGORIES);
+    return playerNames.size() - 1;
+  }
+
+  void addWin(String playerName, PokerHand pokerHand) {
+    addWin(getPlayerIndex(playerName), pokerHand.getValue() / 100);
+  }
+
+  void addWin(int playerIndex, int category) {
+    wins[playerIndex * NUMBER_OF_CATEGORIES + category]++;
+  }
+
+  void merge(WinStatistics other) {
+    for (int otherIndex = 0; otherIndex < other.getNumberOfPlayers(); otherIndex++) {
+      final int playerIndex = addPlayer(other.playerNames.get(otherIndex));
+      for (int category = 0; category < NUMBER_OF_CATEGORIES; category++) {
+        wins[playerIndex * NUMBER_OF_CATEGORIES + category] += other.wins[otherIndex * NUMBER_OF_CATEGORIES + category];
+      }
+    }
+  }
+
+  WinStatistics snapshot() {
+    final WinStatistics snapshot = new WinStatistics();
+    snapshot.merge(this);
+    return snapshot;
+  }
+
+  void clear() {
+    Arrays.fill(wins, 0);
+  }
+
+  int getNumberOfPlayers() {
+    return playerNames.size();
+  }
+
+  String getPlayerName(int playerIndex) {
+    return playerNames.get(playerIndex);
+  }
+
+  private int getPlayerIndex(String playerName) {
+    final Integer playerIndex = playerIndexes.get(playerName);
+    if (playerIndex == null) {
+      throw new RuntimeException("Could not find player :[" + playerName + "]");
+    }
+    return playerIndex;
+  }
+
+  long getNumberOfWins(int playerIndex, PokerHand pokerHand) {
+    return wins[playerIndex * NUMBER_OF_CATEGORIES + pokerHand.getValue() / 100];
+  }
+
+  long getNumberOfWins(int playerIndex) {
+    long numberOfWins = 0;
+    for (int category = 0; category < NUMBER_OF_CATEGORIES; category++) {
+      numberOfWins += wins[playerIndex * NUMBER_OF_CATEGORIES + category];
+    }
+    return numberOfWins;
+  }
+
+  long getNumberOfWins(String playerName, PokerHand pokerHand) {
+    return getNumberOfWins(getPlayerIndex(playerName), pokerHand);
+  }
+
+  long getNumberOfWins(String playerName) {
+    return getNumberOfWins(getPlayerIndex(playerName));
+  }
+
+  long getNumberOfWins(PokerHand pokerHand) {
+    long numberOfWins = 0;
+    for (int playerIndex = 0; playerIndex < getNumberOfPlayers(); playerIndex++) {
+      numberOfWins += getNumberOfWins(playerIndex, pokerHand);
+    }
+    return numberOfWins;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder result = new StringBuilder();
+    for (int playerIndex = 0; playerIndex < getNumberOfPlayers(); playerIndex++) {
+      result.append("[").append(playerNames.get(playerIndex)).append("] won [").append(getNumberOfWins(playerIndex))
+            .append("] times");
+      for (PokerHand pokerHand : POKER_HANDS) {
+        final long numberOfWins = getNumberOfWins(playerIndex, pokerHand);
+        if (numberOfWins > 0) {
+          result.append(", ").append(pokerHand).append(": [").append(numberOfWins).append("]");
+        }
+      }
+      result.append(System.lineSeparator());
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,87 @@
+package poker;
+
+/*
+ * xoroshiro128++ by Blackman and Vigna. The 128 bit state is seeded through splitmix64, split() hands out the
+ * current state and then jumps this source 2^64 steps ahead, so split sources never overlap.
+ */
+class XoroshiroRandomSource implements RandomSource {
+
+  private static final long[] JUMP = {0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L};
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private long s0;
+  private long s1;
+
+  XoroshiroRandomSource() {
+    this(System.nanoTime());
+  }
+
+  XoroshiroRandomSource(long seed) {
+    final long seed0 = seed + GOLDEN_GAMMA;
+    final long seed1 = seed0 + GOLDEN_GAMMA;
+    this.s0 = mix(seed0);
+    this.s1 = mix(seed1);
+  }
+
+  private XoroshiroRandomSource(long s0, long s1) {
+    this.s0 = s0;
+    this.s1 = s1;
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  long nextLong() {
+    final long x = s0;
+    long y = s1;
+    final long result = Long.rotateLeft(x + y, 17) + x;
+    y ^= x;
+    s0 = Long.rotateLeft(x, 49) ^ y ^ (y << 21);
+    s1 = Long.rotateLeft(y, 28);
+    return result;
+  }
+
+  /*
+   * Lemire's multiply and shift, the rare biased values are rejected
+   */
+  @Override
+  public int nextInt(int bound) {
+    if (bound <= 0) {
+      throw new RuntimeException("Bound must be positive:[" + bound + "]");
+    }
+    long product = (nextLong() >>> 32) * bound;
+    if ((product & 0xFFFFFFFFL) < bound) {
+      final long threshold = (1L << 32) % bound;
+      while ((product & 0xFFFFFFFFL) < threshold) {
+        product = (nextLong() >>> 32) * bound;
+      }
+    }
+    return (int) (product >>> 32);
+  }
+
+  @Override
+  public RandomSource split() {
+    final RandomSource split = new XoroshiroRandomSource(s0, s1);
+    jump();
+    return split;
+  }
+
+  private void jump() {
+    long jumped0 = 0;
+    long jumped1 = 0;
+    for (long jump : JUMP) {
+      for (int bit = 0; bit < Long.SIZE; bit++) {
+        if ((jump & 1L << bit) != 0) {
+          jumped0 ^= s0;
+          jumped1 ^= s1;
+        }
+        nextLong();
+      }
+    }
+    s0 = jumped0;
+    s1 = jumped1;
+  }
+}
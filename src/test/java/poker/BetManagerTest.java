@@ -12,7 +12,9 @@ import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.anyInt;
-import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class BetManagerTest extends TestBase {
@@ -73,18 +75,18 @@ public class BetManagerTest extends TestBase {
     when(player2.getName()).thenReturn("Thomas");
     playerList.add(player1);
     playerList.add(player2);
-    when(player1.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.RAISE)).thenReturn(
-      new Action(ActionEnum.CHECK));
+    when(player1.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.RAISE)).thenReturn(
+      Action.of(ActionEnum.CHECK));
     when(player1.getAction())
-      .thenReturn(new Action(ActionEnum.RAISE))
-      .thenReturn(new Action(ActionEnum.CHECK));
-    when(player2.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.RAISE)).thenReturn(
-      new Action(ActionEnum.CHECK));
+      .thenReturn(Action.of(ActionEnum.RAISE))
+      .thenReturn(Action.of(ActionEnum.CHECK));
+    when(player2.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.RAISE)).thenReturn(
+      Action.of(ActionEnum.CHECK));
     when(player2.getAction())
-      .thenReturn(new Action(ActionEnum.RAISE))
-      .thenReturn(new Action(ActionEnum.CHECK));
+      .thenReturn(Action.of(ActionEnum.RAISE))
+      .thenReturn(Action.of(ActionEnum.CHECK));
     final BetManager betManager = new BetManager(playerList, 50, new PotHandler());
     betManager.createBettingDecisionList(playerList.get(0));
     betManager.initResult();
@@ -110,38 +112,39 @@ public class BetManagerTest extends TestBase {
     playerList.add(anders);
     playerList.add(bosse);
     playerList.add(staffan);
-    when(peter.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.CHECK));
-    when(peter.getAction()).thenReturn(new Action(ActionEnum.CHECK));
+    when(peter.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.CHECK));
+    when(peter.getAction()).thenReturn(Action.of(ActionEnum.CHECK));
     when(peter.hasFolded()).thenReturn(false);
     when(peter.isAllIn()).thenReturn(false);
 
-    when(thomas.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.CHECK));
-    when(thomas.getAction()).thenReturn(new Action(ActionEnum.CHECK));
+    when(thomas.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.CHECK));
+    when(thomas.getAction()).thenReturn(Action.of(ActionEnum.CHECK));
     when(thomas.hasFolded()).thenReturn(false);
     when(thomas.isAllIn()).thenReturn(false);
 
-    when(anders.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.FOLD));
-    when(anders.getAction()).thenReturn(new Action(ActionEnum.FOLD));
+    when(anders.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.FOLD));
+    when(anders.getAction()).thenReturn(Action.of(ActionEnum.FOLD));
     when(anders.hasFolded()).thenReturn(true);
     when(anders.isAllIn()).thenReturn(false);
 
-    when(bosse.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.ALL_IN));
-    when(bosse.getAction()).thenReturn(new Action(ActionEnum.ALL_IN));
+    when(bosse.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.ALL_IN));
+    when(bosse.getAction()).thenReturn(Action.of(ActionEnum.ALL_IN));
     when(bosse.hasFolded()).thenReturn(false);
     when(bosse.isAllIn()).thenReturn(true);
 
-    when(staffan.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.CHECK));
-    when(staffan.getAction()).thenReturn(new Action(ActionEnum.CHECK));
+    when(staffan.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.CHECK));
+    when(staffan.getAction()).thenReturn(Action.of(ActionEnum.CHECK));
     when(staffan.hasFolded()).thenReturn(false);
     when(staffan.isAllIn()).thenReturn(false);
 
     final BetManager betManager = new BetManager(playerList, 50, new PotHandler());
-    String decision = betManager.bet();
+    betManager.bet();
+    String decision = betManager.getResult();
     assertEquals(
       "Player Peter Action :[CHECK]. Player Thomas Action :[CHECK]. Player Anders Action :[FOLD]. Player Bosse Action :[ALL_IN]. Player Staffan Action :[CHECK]. Player Peter Action :[CHECK]. Player Thomas Action :[CHECK]. "
       , decision);
@@ -165,42 +168,43 @@ public class BetManagerTest extends TestBase {
     playerList.add(anders);
     playerList.add(bosse);
     playerList.add(staffan);
-    when(peter.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.RAISE)).thenReturn(
-      new Action(ActionEnum.CHECK));
-    when(peter.getAction()).thenReturn(new Action(ActionEnum.RAISE)).thenReturn(new Action(ActionEnum.CHECK));
+    when(peter.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.RAISE)).thenReturn(
+      Action.of(ActionEnum.CHECK));
+    when(peter.getAction()).thenReturn(Action.of(ActionEnum.RAISE)).thenReturn(Action.of(ActionEnum.CHECK));
     when(peter.isAllIn()).thenReturn(false);
     when(peter.hasFolded()).thenReturn(false);   // Peter, thomas Anders bosse staffan
 
-    when(thomas.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.RAISE)).thenReturn(
-      new Action(ActionEnum.CHECK));
-    when(thomas.getAction()).thenReturn(new Action(ActionEnum.RAISE)).thenReturn(new Action(ActionEnum.CHECK));
+    when(thomas.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.RAISE)).thenReturn(
+      Action.of(ActionEnum.CHECK));
+    when(thomas.getAction()).thenReturn(Action.of(ActionEnum.RAISE)).thenReturn(Action.of(ActionEnum.CHECK));
     when(thomas.isAllIn()).thenReturn(false);
     when(thomas.hasFolded()).thenReturn(false);  // , thomas Anders bosse staffan, Peter
 
-    when(anders.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.FOLD));
-    when(anders.getAction()).thenReturn(new Action(ActionEnum.FOLD));
+    when(anders.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.FOLD));
+    when(anders.getAction()).thenReturn(Action.of(ActionEnum.FOLD));
     when(anders.isAllIn()).thenReturn(false);
     when(anders.hasFolded()).thenReturn(true);
 
-    when(bosse.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.ALL_IN)).thenReturn(
-      new Action(ActionEnum.ALL_IN));
-    when(bosse.getAction()).thenReturn(new Action(ActionEnum.ALL_IN));
+    when(bosse.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.ALL_IN)).thenReturn(
+      Action.of(ActionEnum.ALL_IN));
+    when(bosse.getAction()).thenReturn(Action.of(ActionEnum.ALL_IN));
     when(bosse.isAllIn()).thenReturn(true);
     when(bosse.hasFolded()).thenReturn(false); // ,   bosse staffan, Peter, thomas
 
-    when(staffan.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.RAISE)).thenReturn(
-      new Action(ActionEnum.RAISE));
-    when(staffan.getAction()).thenReturn(new Action(ActionEnum.RAISE));
+    when(staffan.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.RAISE)).thenReturn(
+      Action.of(ActionEnum.RAISE));
+    when(staffan.getAction()).thenReturn(Action.of(ActionEnum.RAISE));
     when(staffan.isAllIn()).thenReturn(false);
     when(staffan.hasFolded()).thenReturn(false);  // ,    staffan, Peter, thomas, bosse
 
     final BetManager betManager = new BetManager(playerList, 50, new PotHandler());
-    final String decision = betManager.bet();
+    betManager.bet();
+    final String decision = betManager.getResult();
     assertEquals(
       "Player Peter Action :[RAISE]. Player Thomas Action :[RAISE]. Player Anders Action :[FOLD]. Player Bosse Action :[ALL_IN]. Player Staffan Action :[RAISE]. Player Peter Action :[CHECK]. Player Thomas Action :[CHECK]. "
       , decision);
@@ -218,32 +222,34 @@ public class BetManagerTest extends TestBase {
     playerList.add(peter);
     playerList.add(thomas);
     playerList.add(anders);
-    when(peter.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.ALL_IN)).thenReturn(
-      new Action(ActionEnum.ALL_IN));
-    when(peter.getAction()).thenReturn(new Action(ActionEnum.ALL_IN)).thenReturn(new Action(ActionEnum.ALL_IN));
+    when(peter.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.ALL_IN)).thenReturn(
+      Action.of(ActionEnum.ALL_IN));
+    when(peter.getAction()).thenReturn(Action.of(ActionEnum.ALL_IN)).thenReturn(Action.of(ActionEnum.ALL_IN));
     when(peter.isAllIn()).thenReturn(true);
     when(peter.hasFolded()).thenReturn(false);
 
-    when(thomas.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.ALL_IN)).thenReturn(
-      new Action(ActionEnum.ALL_IN));
-    when(thomas.getAction()).thenReturn(new Action(ActionEnum.ALL_IN)).thenReturn(new Action(ActionEnum.ALL_IN));
+    when(thomas.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.ALL_IN)).thenReturn(
+      Action.of(ActionEnum.ALL_IN));
+    when(thomas.getAction()).thenReturn(Action.of(ActionEnum.ALL_IN)).thenReturn(Action.of(ActionEnum.ALL_IN));
     when(thomas.isAllIn()).thenReturn(true);
     when(thomas.hasFolded()).thenReturn(false);
 
-    when(anders.decideAction(Matchers.any(Draw.class), anyInt(), anyList(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
-      new Action(ActionEnum.ALL_IN));
-    when(anders.getAction()).thenReturn(new Action(ActionEnum.ALL_IN));
+    when(anders.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.ALL_IN));
+    when(anders.getAction()).thenReturn(Action.of(ActionEnum.ALL_IN));
     when(anders.isAllIn()).thenReturn(true);
     when(anders.hasFolded()).thenReturn(false);
 
     final BetManager betManager = new BetManager(playerList, 50, new PotHandler());
-    final String decision = betManager.bet();
+    betManager.bet();
+    final String decision = betManager.getResult();
     assertEquals(
       "Player Peter Action :[ALL_IN]. Player Thomas Action :[ALL_IN]. Player Anders Action :[ALL_IN]. "
       , decision);
-    String decision2 = betManager.bet();
+    betManager.bet();
+    String decision2 = betManager.getResult();
     assertEquals(
       ""
       , decision2);
@@ -284,4 +290,73 @@ public class BetManagerTest extends TestBase {
   protected PokerGame getPokerGame() {
     return pokerGame;
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testRaiseMovesTheHeadAndFoldedPlayerStopsBetting() {
+    Player peter = Mockito.mock(Player.class);
+    when(peter.getName()).thenReturn("Peter");
+    when(peter.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.CHECK));
+    when(peter.getAction()).thenReturn(Action.of(ActionEnum.CHECK));
+    Player thomas = Mockito.mock(Player.class);
+    when(thomas.getName()).thenReturn("Thomas");
+    when(thomas.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.FOLD));
+    when(thomas.getAction()).thenReturn(Action.of(ActionEnum.FOLD));
+    when(thomas.hasFolded()).thenReturn(true);
+    Player anders = Mockito.mock(Player.class);
+    when(anders.getName()).thenReturn("Anders");
+    when(anders.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.RAISE));
+    when(anders.getAction()).thenReturn(Action.of(ActionEnum.RAISE));
+
+    final BetManager betManager = new BetManager(Lists.newArrayList(peter, thomas, anders), 50, new PotHandler());
+    betManager.bet();
+    assertEquals(
+      "Player Peter Action :[CHECK]. Player Thomas Action :[FOLD]. Player Anders Action :[RAISE]. Player Peter Action :[CHECK]. ",
+      betManager.getResult());
+    // The raising player bets first in the next draw, the folded player does not bet any more
+    final Map<Player, Boolean> bettingMap = betManager.getBettingMap();
+    assertEquals(2, bettingMap.size());
+    assertEquals("Anders", getNameFromBettingMapIndex(bettingMap, 0));
+    assertEquals("Peter", getNameFromBettingMapIndex(bettingMap, 1));
+  }
+
+  @Test
+  public void testDecisionIsMadeWithThePlayersInTheHand() {
+    final Player peter = createCheckingPlayer("Peter");
+    when(peter.hasFolded()).thenReturn(true);
+    final Player thomas = createCheckingPlayer("Thomas");
+    final Player anders = createCheckingPlayer("Anders");
+    new BetManager(Lists.newArrayList(peter, thomas, anders), 50, new PotHandler()).bet();
+    // The player that has folded is not counted
+    verify(thomas).decideAction(Matchers.any(Draw.class), eq(2), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void testPreflopStrategyFollowsTheNumberOfPlayers() {
+    assertEquals(Strategy.ALL_IN, decidePairOfAcesAtTable(2));
+    // Against three others a pair of aces wins too seldom to go all in
+    assertEquals(Strategy.OFFENSIVE, decidePairOfAcesAtTable(4));
+  }
+
+  private Strategy decidePairOfAcesAtTable(int numberOfPlayers) {
+    final RobotPlayer robot = new RobotPlayer("Robot", 2500);
+    robot.addPrivateCards(Lists.newArrayList(new Card(Color.hearts, Ordinal.ace), new Card(Color.spades, Ordinal.ace)));
+    final List<Player> playerList = Lists.newArrayList(robot);
+    for (int i = 1; i < numberOfPlayers; i++) {
+      playerList.add(createCheckingPlayer("Player " + i));
+    }
+    new BetManager(playerList, 50, new PotHandler()).bet();
+    return robot.strategy;
+  }
+
+  private Player createCheckingPlayer(String name) {
+    final Player player = Mockito.mock(Player.class);
+    when(player.getName()).thenReturn(name);
+    when(player.decideAction(Matchers.any(Draw.class), anyInt(), anyListOf(Card.class), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+      Action.of(ActionEnum.CHECK));
+    when(player.getAction()).thenReturn(Action.of(ActionEnum.CHECK));
+    return player;
+  }
+}
@@ -1,6 +1,5 @@
 package poker;
 
-import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -12,11 +11,6 @@ import static org.junit.Assert.*;
 
 public class PokerResultTests {
 
-  @Before
-  public void init() {
-    EvaluationHandler.initDrawnCardStatistics();
-  }
-
   @Test
   public void testFlush() {
     List<Card> cardsOnHand = new ArrayList<>();
@@ -111,6 +105,32 @@ public class PokerResultTests {
     assertFalse(resultFromLatestPlayerHigherThanHighScore);
   }
 
+  @Test
+  public void testRankDecidesOnKicker() {
+    List<Card> commonHand = new ArrayList<>();
+    commonHand.add(new Card(Color.spades, Ordinal.ace));
+    commonHand.add(new Card(Color.hearts, Ordinal.nine));
+    commonHand.add(new Card(Color.clubs, Ordinal.seven));
+    commonHand.add(new Card(Color.diamonds, Ordinal.four));
+    commonHand.add(new Card(Color.spades, Ordinal.two));
+    List<Card> kingKicker = new ArrayList<>(commonHand);
+    kingKicker.add(new Card(Color.hearts, Ordinal.ace));
+    kingKicker.add(new Card(Color.hearts, Ordinal.king));
+    List<Card> queenKicker = new ArrayList<>(commonHand);
+    queenKicker.add(new Card(Color.clubs, Ordinal.ace));
+    queenKicker.add(new Card(Color.clubs, Ordinal.queen));
+    List<Card> otherKingKicker = new ArrayList<>(commonHand);
+    otherKingKicker.add(new Card(Color.diamonds, Ordinal.ace));
+    otherKingKicker.add(new Card(Color.diamonds, Ordinal.king));
+
+    final int kingKickerRank = EvaluationHandler.getRankFromCardPokerResultMap(EvaluationHandler.evaluateHand("test", kingKicker));
+    final int queenKickerRank = EvaluationHandler.getRankFromCardPokerResultMap(EvaluationHandler.evaluateHand("test", queenKicker));
+    final int otherKingKickerRank = EvaluationHandler.getRankFromCardPokerResultMap(EvaluationHandler.evaluateHand("test", otherKingKicker));
+    assertTrue(kingKickerRank > queenKickerRank);
+    // Color does not matter, equal hands split the pot
+    assertEquals(kingKickerRank, otherKingKickerRank);
+  }
+
   @Test
   public void testRoyalStraightFlush() {
     List<Card> cardsOnHand = new ArrayList<>();
@@ -232,5 +252,46 @@ public class PokerResultTests {
     final int valueOfNoResultNineHigh = new PokerResult(PokerHand.NO_RESULT, 9).getPoints();
     assertEquals(pointsFromHand, valueOfNoResultNineHigh);
   }
-}
 
+  @Test
+  public void testFlushOfSixCards() {
+    List<Card> cardsOnHand = new ArrayList<>();
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.three));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.ace));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.king));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.two));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.five));
+    cardsOnHand.add(new Card(Color.spades, Ordinal.five));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.six));
+    Map<Card, PokerResult> evaluateHand = EvaluationHandler.evaluateHand("test", cardsOnHand);
+    assertEquals(PokerHand.FLUSH, evaluateHand.get(new Card(Color.hearts, Ordinal.ace)).getPokerHand());
+  }
+
+  @Test
+  public void testThreePairsIsTwoPair() {
+    List<Card> cardsOnHand = new ArrayList<>();
+    cardsOnHand.add(new Card(Color.spades, Ordinal.five));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.five));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.king));
+    cardsOnHand.add(new Card(Color.clubs, Ordinal.king));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.nine));
+    cardsOnHand.add(new Card(Color.spades, Ordinal.nine));
+    cardsOnHand.add(new Card(Color.diamonds, Ordinal.two));
+    Map<Card, PokerResult> evaluateHand = EvaluationHandler.evaluateHand("test", cardsOnHand);
+    assertEquals(PokerHand.TWO_PAIR, evaluateHand.get(new Card(Color.hearts, Ordinal.king)).getPokerHand());
+  }
+
+  @Test
+  public void testTwoThreesIsFullHouse() {
+    List<Card> cardsOnHand = new ArrayList<>();
+    cardsOnHand.add(new Card(Color.spades, Ordinal.five));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.five));
+    cardsOnHand.add(new Card(Color.clubs, Ordinal.five));
+    cardsOnHand.add(new Card(Color.clubs, Ordinal.king));
+    cardsOnHand.add(new Card(Color.hearts, Ordinal.king));
+    cardsOnHand.add(new Card(Color.spades, Ordinal.king));
+    cardsOnHand.add(new Card(Color.diamonds, Ordinal.two));
+    Map<Card, PokerResult> evaluateHand = EvaluationHandler.evaluateHand("test", cardsOnHand);
+    assertEquals(PokerHand.FULL_HOUSE, evaluateHand.get(new Card(Color.hearts, Ordinal.king)).getPokerHand());
+  }
+}
@@ -8,13 +8,14 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 public class SimulateMultipleGames {
 
   private static final Logger logger = LogManager.getLogger(SimulateMultipleGames.class.getName());
   private static final int TOTAL_MARKERS_PER_PLAYER = 2500;
-  private Dealer dealer = Dealer.getInstance();
+  private Dealer dealer = new Dealer();
 
   @Test
   public void simulateNormalGame() {
@@ -33,11 +34,88 @@ public class SimulateMultipleGames {
     verifyDrawCardStatistics();
   }
 
+  @Test
+  public void simulateParallelGames() {
+    final int numberOfHands = 1_000_000;
+    final SimulationResult result = new SimulationEngine(6, 4, new SplittableRandomSource(4711)).simulate(numberOfHands);
+    assertEquals(numberOfHands, result.getNumberOfHands());
+    long numberOfWins = 0;
+    for (int player = 0; player < result.getNumberOfPlayers(); player++) {
+      numberOfWins += result.getNumberOfWins(player);
+    }
+    assertEquals(true, numberOfWins >= numberOfHands + result.getNumberOfSplitPots());
+    for (int player = 0; player < result.getNumberOfPlayers(); player++) {
+      // Six players at the same table should win about as often
+      assertEquals(numberOfWins / 6.0, result.getNumberOfWins(player), numberOfHands * 0.005);
+    }
+    assertEquals(numberOfHands * (6 * 2 + 8), result.getNumberOfDrawnCards());
+    for (Color color : Color.values()) {
+      assertEquals(0.25, (double) result.getNumberOfDrawnCardsWithColor(color) / result.getNumberOfDrawnCards(), 0.01);
+    }
+    for (Ordinal ordinal : Ordinal.values()) {
+      assertEquals(1.0 / 13, (double) result.getNumberOfDrawnCardsWithOrdinal(ordinal) / result.getNumberOfDrawnCards(), 0.01);
+    }
+  }
+
+  @Test
+  public void simulateParallelGamesIsRepeatable() {
+    final SimulationResult onOneThread = new SimulationEngine(4, 1, new XoroshiroRandomSource(17)).simulate(200_000);
+    final SimulationResult onThreeThreads = new SimulationEngine(4, 3, new XoroshiroRandomSource(17)).simulate(200_000);
+    for (int player = 0; player < 4; player++) {
+      for (PokerHand pokerHand : PokerHand.values()) {
+        assertEquals(onOneThread.getNumberOfWins(player, pokerHand), onThreeThreads.getNumberOfWins(player, pokerHand));
+      }
+    }
+    assertEquals(onOneThread.getNumberOfSplitPots(), onThreeThreads.getNumberOfSplitPots());
+  }
+
+  @Test
+  public void simulateParallelGamesWithReports() {
+    final List<SimulationResult> reports = new ArrayList<>();
+    final SimulationResult result = new SimulationEngine(3, 2, new SplittableRandomSource(4711))
+      .simulate(500_000, 100_000, reports::add);
+    assertEquals(true, reports.size() >= 3);
+    long numberOfHands = 0;
+    for (SimulationResult report : reports) {
+      assertEquals(true, report.getNumberOfHands() >= numberOfHands + 100_000);
+      numberOfHands = report.getNumberOfHands();
+      logger.info("After [" + numberOfHands + "] hands:" + System.lineSeparator() + report.getWinStatistics());
+    }
+    assertEquals(500_000, result.getNumberOfHands());
+  }
+
+  @Test
+  public void simulateTablesOnSeveralThreads() throws InterruptedException {
+    final int numberOfHands = 1000;
+    final Dealer[] dealers = new Dealer[4];
+    final Thread[] threads = new Thread[dealers.length];
+    for (int i = 0; i < dealers.length; i++) {
+      final Dealer tableDealer = new Dealer(new SplittableRandomSource(i));
+      tableDealer.registerPlayer(new RobotPlayer("Thomas", TOTAL_MARKERS_PER_PLAYER));
+      tableDealer.registerPlayer(new RobotPlayer("Peter", TOTAL_MARKERS_PER_PLAYER));
+      tableDealer.registerPlayer(new RobotPlayer("Bosse", TOTAL_MARKERS_PER_PLAYER));
+      dealers[i] = tableDealer;
+      threads[i] = new Thread(() -> {
+        for (int hand = 0; hand < numberOfHands; hand++) {
+          tableDealer.play();
+          tableDealer.findTheWinner();
+          tableDealer.putCardsBackIntoDeck();
+        }
+      });
+      threads[i].start();
+    }
+    for (int i = 0; i < dealers.length; i++) {
+      threads[i].join();
+      assertEquals(numberOfHands * (3 * 2 + 8), dealers[i].getDrawnCardStatistics().getNumberOfDrawnCards());
+    }
+  }
+
   private void verifyDrawCardStatistics() {
-    int totalNumberOfDraws = EvaluationHandler.getNumberOfDrawnCardsWithOrdinal();
+    final DrawnCardStatistics drawnCardStatistics = dealer.getDrawnCardStatistics();
+    long totalNumberOfDraws = drawnCardStatistics.getNumberOfDrawnCards();
     logger.debug("totalNumberOfDraws: " + totalNumberOfDraws);
     for (Color color : Color.values()) {
-      int numberOfColor = EvaluationHandler.getNumberOfDrawnCardsWithColor(color);
+      long numberOfColor = drawnCardStatistics.getNumberOfDrawnCardsWithColor(color);
       logger.debug("number of " + color.toString() + " " + numberOfColor);
       if ((numberOfColor < 0.24 * totalNumberOfDraws) || (numberOfColor > 0.26 * totalNumberOfDraws)) {
         fail("Color :[" + color + "] occured [" + (float) numberOfColor / totalNumberOfDraws + "] of the times when it should be around 25%.");
@@ -45,7 +123,7 @@ public class SimulateMultipleGames {
 
     }
     for (Ordinal ordinal : Ordinal.values()) {
-      int numberOfOrdinals = EvaluationHandler.getNumberOfOrdinal(ordinal);
+      long numberOfOrdinals = drawnCardStatistics.getNumberOfDrawnCardsWithOrdinal(ordinal);
       logger.debug("number of " + ordinal.toString() + " " + numberOfOrdinals);
       if ((numberOfOrdinals < 0.06 * totalNumberOfDraws) || (numberOfOrdinals > 0.08 * totalNumberOfDraws)) {
         fail("Ordinal :[" + ordinal + "] occured [" + (float) numberOfOrdinals / totalNumberOfDraws + "] of the times when it should be around 7%.");
@@ -63,7 +141,7 @@ public class SimulateMultipleGames {
     Player anders = dealer.registerPlayer(new RobotPlayer("Anders", TOTAL_MARKERS_PER_PLAYER));
     Player bosse = dealer.registerPlayer(new RobotPlayer("Bosse", TOTAL_MARKERS_PER_PLAYER));
     Player ingemar = dealer.registerPlayer(new RobotPlayer("Ingemar", TOTAL_MARKERS_PER_PLAYER));
-    EvaluationHandler.initDrawnCardStatistics();
+    dealer.getDrawnCardStatistics().clear();
 
     for (Ordinal ordinal : Ordinal.values()) {
       if (ordinal.getValue() > Ordinal.six.getValue()) {
@@ -71,7 +149,7 @@ public class SimulateMultipleGames {
         for (int i = 0; i < 1000; i++) {
           List<Card> privateHand = new ArrayList<Card>();
           privateHand.add(new Card(Color.hearts, ordinal));
-          privateHand.add(new Card(Color.spades, Shuffle.getRandomOrdinal()));
+          privateHand.add(new Card(Color.spades, dealer.getRandomOrdinal()));
           dealer.setPrivateHand(peter, privateHand);
 
           dealer.playPrivateHand(thomas);
@@ -0,0 +1,47 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestAction {
+
+  @Test
+  public void testEqualActionsAreTheSameInstance() {
+    assertSame(Action.CHECK, Action.of(ActionEnum.CHECK, 0));
+    assertSame(Action.of(ActionEnum.RAISE, 200), Action.of(ActionEnum.RAISE, 200));
+    assertNotSame(Action.of(ActionEnum.RAISE, 200), Action.of(ActionEnum.CHECK, 200));
+    final Action raise = Action.of(ActionEnum.RAISE, 200);
+    assertEquals(400, raise.withAmount(400).getAmount());
+    assertTrue(raise.withAmount(400).isRaise());
+    assertEquals(200, raise.getAmount());
+  }
+
+  @Test
+  public void testEncodedActionIsDecodedToTheSameAction() {
+    for (ActionEnum decision : ActionEnum.values()) {
+      for (int amount : new int[]{0, 25, PokerGame.TOTAL_MARKERS_PER_PLAYER, Integer.MAX_VALUE}) {
+        final Action action = Action.of(decision, amount);
+        final Action decoded = Action.decode(action.encode());
+        assertEquals(decision, decoded.getDecision());
+        assertEquals(amount, decoded.getAmount());
+      }
+    }
+    assertSame(Action.FOLD, Action.decode(Action.encode(ActionEnum.FOLD, 0)));
+  }
+
+  @Test
+  public void testActionsOutsideThePoolAreEqual() {
+    final Action raise = Action.of(ActionEnum.RAISE, Integer.MAX_VALUE);
+    assertNotSame(raise, Action.of(ActionEnum.RAISE, Integer.MAX_VALUE));
+    assertEquals(raise, Action.of(ActionEnum.RAISE, Integer.MAX_VALUE));
+    assertEquals(raise.hashCode(), Action.of(ActionEnum.RAISE, Integer.MAX_VALUE).hashCode());
+    assertNotEquals(raise, Action.of(ActionEnum.CHECK, Integer.MAX_VALUE));
+    assertEquals("Action :[RAISE 200]", Action.of(ActionEnum.RAISE, 200).toString());
+    assertEquals("Action :[FOLD]", Action.FOLD.toString());
+  }
+}
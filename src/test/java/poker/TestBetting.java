@@ -75,7 +75,7 @@ public class TestBetting {
     pokerGame.setBetManager(betManager);
     String result = pokerGame.decideBet(players);
 
-    assertEquals("Player Jörn Action :[ALL_IN]. Player Staffan Action :[FOLD]. Player Thomas Action :[ALL_IN]. ", result);
+    assertEquals("Player Jörn Action :[ALL_IN 2500]. Player Staffan Action :[FOLD]. Player Thomas Action :[ALL_IN 2450]. ", result);
 
   }
 
@@ -105,7 +105,7 @@ public class TestBetting {
     pokerGame.setBetManager(betManager);
     String result = pokerGame.decideBet(players);
 
-    assertEquals("Player Peter Action :[RAISE]. Player Thomas Action :[ALL_IN]. Player Peter Action :[FOLD]. ", result);
+    assertEquals("Player Peter Action :[RAISE 100]. Player Thomas Action :[ALL_IN 2475]. Player Peter Action :[FOLD]. ", result);
   }
 
   @Test
@@ -135,7 +135,7 @@ public class TestBetting {
     pokerGame.setBetManager(betManager);
     String result = pokerGame.decideBet(players);
 
-    assertEquals("Player Peter Action :[ALL_IN]. Player Thomas Action :[ALL_IN]. ", result);
+    assertEquals("Player Peter Action :[ALL_IN 2450]. Player Thomas Action :[ALL_IN 2475]. ", result);
   }
 
   @After
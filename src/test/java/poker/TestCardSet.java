@@ -0,0 +1,59 @@
+package poker;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestCardSet {
+
+  @Test
+  public void testAllCards() {
+    assertEquals(52, CardSet.size(CardSet.ALL_CARDS));
+    for (Color color : Color.values()) {
+      for (Ordinal ordinal : Ordinal.values()) {
+        assertTrue(CardSet.contains(CardSet.ALL_CARDS, new Card(color, ordinal)));
+      }
+      assertEquals(0x1FFF, CardSet.getColorMask(CardSet.ALL_CARDS, color));
+    }
+  }
+
+  @Test
+  public void testListRoundTrip() {
+    final List<Card> cards = Arrays.asList(new Card(Color.hearts, Ordinal.ace), new Card(Color.clubs, Ordinal.two),
+                                           new Card(Color.spades, Ordinal.knight));
+    final CardSet cardSet = CardSet.of(cards);
+    assertEquals(3, cardSet.size());
+    assertTrue(cardSet.toList().containsAll(cards));
+    assertEquals(cardSet, CardSet.of(cardSet.toList()));
+    assertEquals(1 << 12, cardSet.getColorMask(Color.hearts));
+  }
+
+  @Test
+  public void testSetOperations() {
+    final CardSet aces = CardSet.of(CardSet.getOrdinalMask(Ordinal.ace));
+    final CardSet hearts = CardSet.empty().with(new Card(Color.hearts, Ordinal.ace)).with(new Card(Color.hearts, Ordinal.two));
+    assertEquals(4, aces.size());
+    assertEquals(CardSet.empty().with(new Card(Color.hearts, Ordinal.ace)), aces.intersection(hearts));
+    assertEquals(5, aces.union(hearts).size());
+    assertFalse(aces.without(hearts).contains(new Card(Color.hearts, Ordinal.ace)));
+    assertEquals(aces, CardSet.of(CardSet.ALL_CARDS).getCardsWithOrdinal(Ordinal.ace));
+  }
+
+  @Test
+  public void testHighestCard() {
+    final long cards = CardSet.toLong(Arrays.asList(new Card(Color.clubs, Ordinal.king), new Card(Color.hearts, Ordinal.king),
+                                                    new Card(Color.spades, Ordinal.queen)));
+    assertEquals(new Card(Color.hearts, Ordinal.king), CardSet.getHighestCard(cards));
+    int numberOfCards = 0;
+    for (Card card : CardSet.of(cards)) {
+      assertTrue(CardSet.contains(cards, card));
+      numberOfCards++;
+    }
+    assertEquals(3, numberOfCards);
+  }
+}
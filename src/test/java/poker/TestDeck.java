@@ -0,0 +1,41 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TestDeck {
+
+  @Test
+  public void testDealAllCards() {
+    final Deck deck = new Deck(new Shuffle(new SplittableRandomSource(4711)));
+    long dealtCards = CardSet.NO_CARDS;
+    for (int i = 0; i < 52; i++) {
+      final Card card = deck.dealCard();
+      assertFalse("Card dealt twice: " + card, CardSet.contains(dealtCards, card));
+      dealtCards |= CardSet.getBit(card);
+    }
+    assertEquals(CardSet.ALL_CARDS, dealtCards);
+    assertEquals(0, deck.size());
+  }
+
+  @Test
+  public void testRemovedCardIsNotDealt() {
+    final Deck deck = new Deck(new Shuffle(new SplittableRandomSource(4711)));
+    final Card aceOfHearts = new Card(Color.hearts, Ordinal.ace);
+    deck.removeCard(aceOfHearts);
+    for (int i = 0; i < 51; i++) {
+      assertFalse(aceOfHearts.equals(deck.dealCard()));
+    }
+    deck.reset();
+    assertEquals(52, deck.size());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testRemoveCardTwice() {
+    final Deck deck = new Deck(new Shuffle(new SplittableRandomSource(4711)));
+    deck.removeCard(new Card(Color.spades, Ordinal.two));
+    deck.removeCard(new Card(Color.spades, Ordinal.two));
+  }
+}
@@ -0,0 +1,48 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestDrawnCardStatistics {
+
+  @Test
+  public void testAggregates() {
+    final DrawnCardStatistics drawnCardStatistics = new DrawnCardStatistics();
+    drawnCardStatistics.update(new Card(Color.hearts, Ordinal.ace));
+    drawnCardStatistics.update(new Card(Color.hearts, Ordinal.ace));
+    drawnCardStatistics.update(new Card(Color.clubs, Ordinal.ace));
+    drawnCardStatistics.update(new Card(Color.clubs, Ordinal.two));
+    assertEquals(4, drawnCardStatistics.getNumberOfDrawnCards());
+    assertEquals(2, drawnCardStatistics.getNumberOfDrawnCards(Color.hearts, Ordinal.ace));
+    assertEquals(2, drawnCardStatistics.getNumberOfDrawnCardsWithColor(Color.hearts));
+    assertEquals(2, drawnCardStatistics.getNumberOfDrawnCardsWithColor(Color.clubs));
+    assertEquals(0, drawnCardStatistics.getNumberOfDrawnCardsWithColor(Color.spades));
+    assertEquals(3, drawnCardStatistics.getNumberOfDrawnCardsWithOrdinal(Ordinal.ace));
+    assertEquals(1, drawnCardStatistics.getNumberOfDrawnCardsWithOrdinal(Ordinal.two));
+    drawnCardStatistics.clear();
+    assertEquals(0, drawnCardStatistics.getNumberOfDrawnCards());
+  }
+
+  @Test
+  public void testUpdateFromSeveralThreads() throws InterruptedException {
+    final DrawnCardStatistics drawnCardStatistics = new DrawnCardStatistics();
+    final Card[] cards = CardSet.toList(CardSet.ALL_CARDS).toArray(new Card[0]);
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 52_000; j++) {
+          drawnCardStatistics.update(cards[j % cards.length]);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(4 * 52_000, drawnCardStatistics.getNumberOfDrawnCards());
+    for (Ordinal ordinal : Ordinal.values()) {
+      assertEquals(4 * 4000, drawnCardStatistics.getNumberOfDrawnCardsWithOrdinal(ordinal));
+    }
+  }
+}
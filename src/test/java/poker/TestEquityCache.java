@@ -0,0 +1,58 @@
+package poker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestEquityCache {
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() {
+    final EquityCache cache = new EquityCache(2);
+    assertTrue(Float.isNaN(cache.get(1)));
+    cache.put(1, 0.1f);
+    cache.put(2, 0.2f);
+    assertEquals(0.1f, cache.get(1), 0);
+    cache.put(3, 0.3f);
+    assertEquals(2, cache.size());
+    assertTrue(Float.isNaN(cache.get(2)));
+    assertEquals(0.1f, cache.get(1), 0);
+    assertEquals(0.3f, cache.get(3), 0);
+  }
+
+  @Test
+  public void testMatchesLinkedHashMapOnRandomKeys() {
+    final int capacity = 100;
+    final EquityCache cache = new EquityCache(capacity);
+    final Map<Long, Float> reference = new LinkedHashMap<Long, Float>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Float> eldest) {
+        return size() > capacity;
+      }
+    };
+    final Random random = new Random(4711);
+    for (int i = 0; i < 200_000; i++) {
+      // Few keys that often hit the same home index of the table
+      final long key = (long) random.nextInt(300) << Integer.SIZE | random.nextInt(3);
+      if (random.nextBoolean()) {
+        final float equity = random.nextFloat();
+        cache.put(key, equity);
+        reference.put(key, equity);
+      } else {
+        final Float expected = reference.get(key);
+        final float actual = cache.get(key);
+        if (expected == null) {
+          assertTrue(Float.isNaN(actual));
+        } else {
+          assertEquals(expected, actual, 0);
+        }
+      }
+      assertEquals(reference.size(), cache.size());
+    }
+  }
+}
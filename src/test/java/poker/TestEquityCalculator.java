@@ -0,0 +1,131 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestEquityCalculator {
+
+  private final List<Card> pairOfAces = Arrays.asList(new Card(Color.hearts, Ordinal.ace), new Card(Color.spades, Ordinal.ace));
+  private final List<Card> flop = Arrays.asList(new Card(Color.diamonds, Ordinal.three), new Card(Color.clubs, Ordinal.nine),
+                                                new Card(Color.hearts, Ordinal.two));
+
+  @Test
+  public void testRiverIsExact() {
+    final List<Card> river = Arrays.asList(new Card(Color.hearts, Ordinal.king), new Card(Color.hearts, Ordinal.queen),
+                                           new Card(Color.hearts, Ordinal.knight), new Card(Color.hearts, Ordinal.ten),
+                                           new Card(Color.clubs, Ordinal.two));
+    final Equity equity = new EquityCalculator(1, new SplittableRandomSource(4711)).calculate(pairOfAces, river, 1);
+    assertTrue(equity.isExact());
+    // Every hand of the opponent, 45 cards are left
+    assertEquals(45 * 44 / 2, equity.getNumberOfShowdowns());
+    assertEquals(1.0, equity.getEquity(), 0);
+    assertEquals(0.0, equity.getMarginOfError(EquityCalculator.DEFAULT_Z_SCORE), 0);
+  }
+
+  @Test
+  public void testTurnIsExactAndMatchesMonteCarlo() {
+    final List<Card> turn = Arrays.asList(flop.get(0), flop.get(1), flop.get(2), new Card(Color.clubs, Ordinal.king));
+    final Equity exact = new EquityCalculator(1, new SplittableRandomSource(4711)).calculate(pairOfAces, turn, 1);
+    assertTrue(exact.isExact());
+    assertEquals(1.0, exact.getWinProbability() + exact.getTieProbability() + exact.getLossProbability(), 1e-9);
+
+    try (EquityCalculator monteCarlo = new EquityCalculator(2, new SplittableRandomSource(4711))) {
+      monteCarlo.setExhaustiveLimit(0);
+      monteCarlo.setConfidenceInterval(3, 0.005);
+      final Equity estimate = monteCarlo.calculate(pairOfAces, turn, 1);
+      assertFalse(estimate.isExact());
+      assertTrue(estimate.getMarginOfError(3) <= 0.005);
+      assertEquals(exact.getEquity(), estimate.getEquity(), 0.005);
+    }
+  }
+
+  @Test
+  public void testPreflopStopsAtMarginOfError() {
+    try (EquityCalculator calculator = new EquityCalculator(2, new XoroshiroRandomSource(4711))) {
+      calculator.setConfidenceInterval(EquityCalculator.DEFAULT_Z_SCORE, 0.01);
+      final Equity equity = calculator.calculate(pairOfAces, Arrays.asList(), 1);
+      assertEquals(0.85, equity.getEquity(), 0.015);
+      // Much less than the maximum, the margin of error was reached after a few rounds
+      assertTrue(equity.getNumberOfShowdowns() < EquityCalculator.DEFAULT_MAX_NUMBER_OF_SHOWDOWNS / 16);
+    }
+  }
+
+  @Test
+  public void testMonteCarloDoesNotDependOnNumberOfThreads() {
+    final Equity oneThread = new EquityCalculator(1, new XoroshiroRandomSource(4711)).calculate(pairOfAces, flop, 3);
+    try (EquityCalculator calculator = new EquityCalculator(3, new XoroshiroRandomSource(4711))) {
+      final Equity threeThreads = calculator.calculate(pairOfAces, flop, 3);
+      assertEquals(oneThread.getNumberOfShowdowns(), threeThreads.getNumberOfShowdowns());
+      assertEquals(oneThread.getEquity(), threeThreads.getEquity(), 0);
+    }
+  }
+
+  @Test
+  public void testExecutorIsKeptBetweenCalculations() {
+    final AtomicInteger numberOfThreads = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+      numberOfThreads.incrementAndGet();
+      return new Thread(runnable);
+    });
+    try {
+      try (EquityCalculator calculator = new EquityCalculator(executor, new SplittableRandomSource(4711))) {
+        calculator.setConfidenceInterval(EquityCalculator.DEFAULT_Z_SCORE, 0.01);
+        for (int calculation = 0; calculation < 4; calculation++) {
+          calculator.calculate(pairOfAces, flop, 2);
+        }
+      }
+      assertEquals(2, numberOfThreads.get());
+      // The calculator leaves an executor it was given running
+      assertFalse(executor.isShutdown());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testSharedByThreads() throws Exception {
+    final EquityCalculator calculator = new EquityCalculator(1, new SplittableRandomSource(4711));
+    calculator.setConfidenceInterval(EquityCalculator.DEFAULT_Z_SCORE, 0.01);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Equity>> results = new ArrayList<>();
+      for (int calculation = 0; calculation < 8; calculation++) {
+        results.add(executor.submit(() -> calculator.calculate(pairOfAces, flop, 2)));
+      }
+      final double equity = results.get(0).get().getEquity();
+      for (Future<Equity> result : results) {
+        assertEquals(equity, result.get().getEquity(), 0.03);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testTieSharesThePot() {
+    // The board is a royal straight flush, every player shares the pot
+    final List<Card> royal = Arrays.asList(new Card(Color.clubs, Ordinal.ace), new Card(Color.clubs, Ordinal.king),
+                                           new Card(Color.clubs, Ordinal.queen), new Card(Color.clubs, Ordinal.knight),
+                                           new Card(Color.clubs, Ordinal.ten));
+    final Equity equity = new EquityCalculator(1, new SplittableRandomSource(4711)).calculate(pairOfAces, royal, 2);
+    assertTrue(equity.isExact());
+    assertEquals(1.0, equity.getTieProbability(), 0);
+    assertEquals(1.0 / 3, equity.getEquity(), 1e-9);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testPrivateHandOnBoard() {
+    new EquityCalculator(1, new SplittableRandomSource(4711)).calculate(pairOfAces, pairOfAces, 1);
+  }
+}
@@ -0,0 +1,90 @@
+package poker;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestEquityRobotPlayer {
+
+  private final List<Card> river = Arrays.asList(new Card(Color.hearts, Ordinal.king), new Card(Color.clubs, Ordinal.queen),
+                                                 new Card(Color.diamonds, Ordinal.nine), new Card(Color.spades, Ordinal.four),
+                                                 new Card(Color.clubs, Ordinal.three));
+
+  @Test
+  public void testPairOfAcesGoesAllInBeforeFlop() {
+    final PotHandler potHandler = new PotHandler();
+    final EquityRobotPlayer robot = createRobot(potHandler, new EquityService(), Ordinal.ace, Ordinal.ace);
+    final Action action = robot.decideAction(Draw.BEFORE_FLOP, 2, Arrays.asList(), 50, 0, 0, 0);
+    assertTrue(action.isAllIn());
+  }
+
+  @Test
+  public void testWeakHandFoldsToBigRaise() {
+    final PotHandler potHandler = new PotHandler();
+    final Player thomas = new RobotPlayer("Thomas", PokerGame.TOTAL_MARKERS_PER_PLAYER);
+    potHandler.joinPot(thomas, 1000);
+    final EquityRobotPlayer robot = createRobot(potHandler, new EquityService(), Ordinal.seven, Ordinal.two);
+    final Action action = robot.decideAction(Draw.RIVER, 2, river, 50, 1000, 1000, 0);
+    assertTrue(action.isFold());
+  }
+
+  @Test
+  public void testWeakHandChecksWhenFree() {
+    final PotHandler potHandler = new PotHandler();
+    final EquityRobotPlayer robot = createRobot(potHandler, new EquityService(), Ordinal.seven, Ordinal.two);
+    final Action action = robot.decideAction(Draw.RIVER, 2, river, 50, 0, 0, 0);
+    assertTrue(action.isCheck());
+  }
+
+  @Test
+  public void testRepeatedSituationIsCached() {
+    final EquityService equityService = new EquityService(new EquityCalculator(1, new SplittableRandomSource(4711)), 2);
+    final long privateCards = CardSet.toLong(Arrays.asList(new Card(Color.hearts, Ordinal.ace), new Card(Color.spades, Ordinal.ace)));
+    final long commonCards = CardSet.toLong(river);
+    final double equity = equityService.getEquity(privateCards, commonCards, 1);
+    assertEquals(equity, equityService.getEquity(privateCards, commonCards, 1), 0);
+    assertEquals(1, equityService.getNumberOfHits());
+    assertEquals(1, equityService.getNumberOfMisses());
+
+    // Before the flop the table is used and nothing is cached
+    equityService.getEquity(privateCards, CardSet.NO_CARDS, 1);
+    assertEquals(1, equityService.getCacheSize());
+
+    // The least recently used situation is evicted when the cache is full
+    equityService.getEquity(privateCards, commonCards, 2);
+    equityService.getEquity(privateCards, commonCards, 1);
+    equityService.getEquity(privateCards, commonCards, 3);
+    assertEquals(2, equityService.getCacheSize());
+    equityService.getEquity(privateCards, commonCards, 1);
+    assertEquals(3, equityService.getNumberOfHits());
+    equityService.getEquity(privateCards, commonCards, 2);
+    assertEquals(3, equityService.getNumberOfHits());
+    assertEquals(4, equityService.getNumberOfMisses());
+  }
+
+  @Test
+  public void testColorPermutedSituationIsCached() {
+    final EquityService equityService = new EquityService(new EquityCalculator(1, new SplittableRandomSource(4711)), 2);
+    final long privateCards = CardSet.toLong(Arrays.asList(new Card(Color.hearts, Ordinal.ace), new Card(Color.spades, Ordinal.ace)));
+    final long otherPrivateCards = CardSet.toLong(Arrays.asList(new Card(Color.diamonds, Ordinal.ace), new Card(Color.clubs, Ordinal.ace)));
+    final long commonCards = CardSet.toLong(Arrays.asList(river.get(1), river.get(2), river.get(3), river.get(4),
+                                                          new Card(Color.hearts, Ordinal.two)));
+    // Swap hearts with diamonds and spades with clubs
+    final long otherCommonCards = CardSet.toLong(Arrays.asList(new Card(Color.spades, Ordinal.queen), new Card(Color.hearts, Ordinal.nine),
+                                                               new Card(Color.clubs, Ordinal.four), new Card(Color.spades, Ordinal.three),
+                                                               new Card(Color.diamonds, Ordinal.two)));
+    final double equity = equityService.getEquity(privateCards, commonCards, 1);
+    assertEquals(equity, equityService.getEquity(otherPrivateCards, otherCommonCards, 1), 0);
+    assertEquals(1, equityService.getNumberOfHits());
+  }
+
+  private EquityRobotPlayer createRobot(PotHandler potHandler, EquityService equityService, Ordinal ordinal, Ordinal otherOrdinal) {
+    final EquityRobotPlayer robot = new EquityRobotPlayer("Jörn", PokerGame.TOTAL_MARKERS_PER_PLAYER, potHandler, equityService);
+    robot.addPrivateCards(Arrays.asList(new Card(Color.hearts, ordinal), new Card(Color.spades, otherOrdinal)));
+    return robot;
+  }
+}
@@ -0,0 +1,113 @@
+package poker;
+
+import java.util.BitSet;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestHandCanonicalizer {
+
+  private static final int[][] PERMUTATIONS = getPermutations();
+
+  @Test
+  public void testColorPermutationsShareIndex() {
+    final long privateCards = getCards(Color.hearts, Ordinal.ace, Color.clubs, Ordinal.king);
+    final long commonCards = getCards(Color.clubs, Ordinal.two, Color.clubs, Ordinal.nine)
+        | getCards(Color.diamonds, Ordinal.nine, Color.spades, Ordinal.queen) | getCards(Color.hearts, Ordinal.two);
+    final int index = HandCanonicalizer.getIndex(privateCards, commonCards);
+    assertTrue(index >= HandCanonicalizer.getFirstIndex(5) && index < HandCanonicalizer.NUMBER_OF_INDEXES);
+    for (int[] permutation : PERMUTATIONS) {
+      final int colorPermutation = toColorPermutation(permutation);
+      final long permutedPrivateCards = HandCanonicalizer.permute(privateCards, colorPermutation);
+      final long permutedCommonCards = HandCanonicalizer.permute(commonCards, colorPermutation);
+      assertEquals(index, HandCanonicalizer.getIndex(permutedPrivateCards, permutedCommonCards));
+    }
+  }
+
+  @Test
+  public void testDifferentColorsGetDifferentIndexes() {
+    final long privateCards = getCards(Color.hearts, Ordinal.ace, Color.hearts, Ordinal.king);
+    final long flushDraw = getCards(Color.hearts, Ordinal.two, Color.hearts, Ordinal.nine) | getCards(Color.clubs, Ordinal.five);
+    final long noFlushDraw = getCards(Color.hearts, Ordinal.two, Color.spades, Ordinal.nine) | getCards(Color.clubs, Ordinal.five);
+    assertNotEquals(HandCanonicalizer.getIndex(privateCards, flushDraw), HandCanonicalizer.getIndex(privateCards, noFlushDraw));
+  }
+
+  @Test
+  public void testIndexWithoutCommonCardsIsStartingHandClass() {
+    for (long privateCards : getAllPrivateHands()) {
+      assertEquals(PreflopEquity.getStartingHandClass(privateCards), HandCanonicalizer.getIndex(privateCards, CardSet.NO_CARDS));
+    }
+  }
+
+  @Test
+  public void testNumberOfCanonicalFlops() {
+    final int firstIndex = HandCanonicalizer.getFirstIndex(3);
+    final BitSet indexes = new BitSet(HandCanonicalizer.getFirstIndex(4) - firstIndex);
+    final int[] deck = new int[52];
+    int numberOfCards = 0;
+    for (long cards = CardSet.ALL_CARDS; cards != CardSet.NO_CARDS; cards &= cards - 1) {
+      deck[numberOfCards++] = Long.numberOfTrailingZeros(cards);
+    }
+    for (long privateCards : getAllPrivateHands()) {
+      for (int i = 0; i < deck.length; i++) {
+        for (int j = i + 1; j < deck.length; j++) {
+          for (int k = j + 1; k < deck.length; k++) {
+            final long flop = 1L << deck[i] | 1L << deck[j] | 1L << deck[k];
+            if ((flop & privateCards) == CardSet.NO_CARDS) {
+              indexes.set(HandCanonicalizer.getIndex(privateCards, flop) - firstIndex);
+            }
+          }
+        }
+      }
+    }
+    // The number of private hands and flops that are different when colors are ignored
+    assertEquals(1286792, indexes.cardinality());
+  }
+
+  private static long getCards(Color color, Ordinal ordinal, Color otherColor, Ordinal otherOrdinal) {
+    return getCards(color, ordinal) | getCards(otherColor, otherOrdinal);
+  }
+
+  private static long getCards(Color color, Ordinal ordinal) {
+    return CardSet.getBit(CardSet.getCard(color, ordinal));
+  }
+
+  private static long[] getAllPrivateHands() {
+    final long[] privateHands = new long[52 * 51 / 2];
+    int i = 0;
+    for (long cards = CardSet.ALL_CARDS; cards != CardSet.NO_CARDS; cards &= cards - 1) {
+      final long card = Long.lowestOneBit(cards);
+      for (long otherCards = cards & cards - 1; otherCards != CardSet.NO_CARDS; otherCards &= otherCards - 1) {
+        privateHands[i++] = card | Long.lowestOneBit(otherCards);
+      }
+    }
+    return privateHands;
+  }
+
+  private static int toColorPermutation(int[] permutation) {
+    int colorPermutation = 0;
+    for (int colorValue = 0; colorValue < permutation.length; colorValue++) {
+      colorPermutation |= permutation[colorValue] << 2 * colorValue;
+    }
+    return colorPermutation;
+  }
+
+  private static int[][] getPermutations() {
+    final int[][] permutations = new int[24][];
+    int i = 0;
+    for (int a = 0; a < 4; a++) {
+      for (int b = 0; b < 4; b++) {
+        for (int c = 0; c < 4; c++) {
+          final int d = 6 - a - b - c;
+          if (a != b && a != c && b != c && d != a && d != b && d != c) {
+            permutations[i++] = new int[] {a, b, c, d};
+          }
+        }
+      }
+    }
+    return permutations;
+  }
+}
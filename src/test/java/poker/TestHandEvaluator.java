@@ -0,0 +1,180 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/*
+ * Differential tests of the table driven evaluator. Random hands are evaluated by the evaluator and by a brute force
+ * reference that rates every five card part of the hand.
+ */
+public class TestHandEvaluator {
+
+  private static final int NUMBER_OF_RANDOM_HANDS = 500_000;
+  private static final int NUMBER_OF_HANDS_FOR_RANK = 100_000;
+
+  private final Random random = new Random(4711);
+  private final Card[] deck = createDeck();
+
+  @Test
+  public void testEvaluatorMatchesBestFiveCardsOnRandomHands() {
+    for (int numberOfCards = 5; numberOfCards <= 7; numberOfCards++) {
+      for (int i = 0; i < NUMBER_OF_RANDOM_HANDS; i++) {
+        final List<Card> hand = drawRandomHand(numberOfCards);
+        final int expected = bestFiveCardStrength(hand);
+        final int actual = HandEvaluator.evaluate(hand);
+        if (expected != actual) {
+          assertEquals("Hand strength for " + hand, Integer.toHexString(expected), Integer.toHexString(actual));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRankMatchesEvaluateHand() {
+    for (int numberOfCards = 2; numberOfCards <= 7; numberOfCards++) {
+      for (int i = 0; i < NUMBER_OF_HANDS_FOR_RANK; i++) {
+        final long hand = CardSet.toLong(drawRandomHand(numberOfCards));
+        final PokerResult expected = EvaluationHandler.getResultFromCardPokerResultMap(EvaluationHandler.evaluateHand("test", hand));
+        final int rank = EvaluationHandler.rank(hand);
+        assertEquals(expected.getRank(), rank);
+        assertEquals(expected.getPokerHand(), EvaluationHandler.getPokerHand(rank));
+        assertEquals(expected.getPoints(), EvaluationHandler.getPoints(rank));
+      }
+    }
+    assertEquals(Ordinal.ace, EvaluationHandler.getTopOrdinal(EvaluationHandler.rank(
+        CardSet.toLong(Arrays.asList(new Card(Color.hearts, Ordinal.ace), new Card(Color.spades, Ordinal.ace),
+                                     new Card(Color.clubs, Ordinal.king))))));
+  }
+
+  @Test
+  public void testFewerThanFiveCards() {
+    assertEquals(PokerHand.PAIR, evaluate(new Card(Color.hearts, Ordinal.ace), new Card(Color.spades, Ordinal.ace)));
+    assertEquals(PokerHand.NO_RESULT, evaluate(new Card(Color.hearts, Ordinal.ace), new Card(Color.hearts, Ordinal.king)));
+    assertEquals(PokerHand.TWO_PAIR, evaluate(new Card(Color.hearts, Ordinal.two), new Card(Color.spades, Ordinal.two),
+                                              new Card(Color.hearts, Ordinal.five), new Card(Color.clubs, Ordinal.five)));
+    assertEquals(PokerHand.FOURS, evaluate(new Card(Color.hearts, Ordinal.six), new Card(Color.spades, Ordinal.six),
+                                           new Card(Color.diamonds, Ordinal.six), new Card(Color.clubs, Ordinal.six)));
+    assertEquals(PokerHand.NO_RESULT, evaluate());
+  }
+
+  @Test
+  public void testKickersDecide() {
+    final int pairOfAcesKingKicker = HandEvaluator.evaluate(Arrays.asList(
+      new Card(Color.hearts, Ordinal.ace), new Card(Color.spades, Ordinal.ace), new Card(Color.clubs, Ordinal.king),
+      new Card(Color.clubs, Ordinal.four), new Card(Color.diamonds, Ordinal.three)));
+    final int pairOfAcesQueenKicker = HandEvaluator.evaluate(Arrays.asList(
+      new Card(Color.diamonds, Ordinal.ace), new Card(Color.clubs, Ordinal.ace), new Card(Color.hearts, Ordinal.queen),
+      new Card(Color.hearts, Ordinal.knight), new Card(Color.spades, Ordinal.nine)));
+    assertEquals(true, pairOfAcesKingKicker > pairOfAcesQueenKicker);
+    assertEquals(Ordinal.ace.getValue(), HandEvaluator.getTopOrdinalValue(pairOfAcesKingKicker));
+  }
+
+  private PokerHand evaluate(Card... cards) {
+    return HandEvaluator.getPokerHand(HandEvaluator.evaluate(Arrays.asList(cards)));
+  }
+
+  private Card[] createDeck() {
+    final Card[] cards = new Card[52];
+    int i = 0;
+    for (Color color : Color.values()) {
+      for (Ordinal ordinal : Ordinal.values()) {
+        cards[i++] = new Card(color, ordinal);
+      }
+    }
+    return cards;
+  }
+
+  private List<Card> drawRandomHand(int numberOfCards) {
+    final List<Card> hand = new ArrayList<>(numberOfCards);
+    for (int i = 0; i < numberOfCards; i++) {
+      final int j = i + random.nextInt(deck.length - i);
+      final Card card = deck[j];
+      deck[j] = deck[i];
+      deck[i] = card;
+      hand.add(card);
+    }
+    return hand;
+  }
+
+  private int bestFiveCardStrength(List<Card> hand) {
+    final int numberOfCards = hand.size();
+    int best = 0;
+    for (int a = 0; a < numberOfCards; a++) {
+      for (int b = a + 1; b < numberOfCards; b++) {
+        for (int c = b + 1; c < numberOfCards; c++) {
+          for (int d = c + 1; d < numberOfCards; d++) {
+            for (int e = d + 1; e < numberOfCards; e++) {
+              best = Math.max(best, fiveCardStrength(hand.get(a), hand.get(b), hand.get(c), hand.get(d), hand.get(e)));
+            }
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  /*
+   * Straight forward rating of five cards in the same format as HandEvaluator
+   */
+  private int fiveCardStrength(Card... cards) {
+    final int[] count = new int[Ordinal.ace.getValue() + 1];
+    boolean isFlush = true;
+    for (Card card : cards) {
+      count[card.getOrdinal().getValue()]++;
+      isFlush &= card.getColor() == cards[0].getColor();
+    }
+    // Distinct values ordered by number of cards and then by value
+    final List<Integer> values = new ArrayList<>();
+    for (int numberOfCards = 4; numberOfCards >= 1; numberOfCards--) {
+      for (int value = Ordinal.ace.getValue(); value >= Ordinal.two.getValue(); value--) {
+        if (count[value] == numberOfCards) {
+          values.add(value);
+        }
+      }
+    }
+    int highestCardInStraight = 0;
+    if (values.size() == 5) {
+      if (values.get(0) - values.get(4) == 4) {
+        highestCardInStraight = values.get(0);
+      } else if (values.get(0) == Ordinal.ace.getValue() && values.get(1) == Ordinal.five.getValue()) {
+        highestCardInStraight = Ordinal.five.getValue();
+      }
+    }
+    final int category;
+    if (highestCardInStraight != 0 && isFlush) {
+      category = highestCardInStraight == Ordinal.ace.getValue() ? 9 : 8;
+    } else if (count[values.get(0)] == 4) {
+      category = 7;
+    } else if (count[values.get(0)] == 3 && count[values.get(1)] == 2) {
+      category = 6;
+    } else if (isFlush) {
+      category = 5;
+    } else if (highestCardInStraight != 0) {
+      category = 4;
+    } else if (count[values.get(0)] == 3) {
+      category = 3;
+    } else if (count[values.get(0)] == 2 && count[values.get(1)] == 2) {
+      category = 2;
+    } else if (count[values.get(0)] == 2) {
+      category = 1;
+    } else {
+      category = 0;
+    }
+    int strength = category << 20;
+    if (highestCardInStraight != 0 && (category == 4 || category >= 8)) {
+      return strength | highestCardInStraight << 16;
+    }
+    int shift = 16;
+    for (int value : values) {
+      strength |= value << shift;
+      shift -= 4;
+    }
+    return strength;
+  }
+}
@@ -0,0 +1,87 @@
+package poker;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestHandState {
+
+  @Test
+  public void testIncrementalRankMatchesEvaluator() {
+    final Deck deck = new Deck(new Shuffle(new SplittableRandomSource(4711)));
+    final HandState handState = new HandState();
+    for (int hand = 0; hand < 10000; hand++) {
+      deck.reset();
+      handState.clear();
+      long cards = CardSet.NO_CARDS;
+      for (int card = 0; card < 7; card++) {
+        final int bitIndex = deck.dealBitIndex();
+        cards |= 1L << bitIndex;
+        handState.addCard(bitIndex);
+        assertEquals(HandEvaluator.evaluate(cards), handState.rank());
+      }
+      assertEquals(cards, handState.getCards());
+    }
+  }
+
+  @Test
+  public void testRankIsEvaluatedOncePerCard() {
+    final HandState handState = new HandState();
+    handState.addCards(CardSet.getBit(new Card(Color.hearts, Ordinal.ace)) | CardSet.getBit(new Card(Color.spades, Ordinal.ace)));
+    handState.rank();
+    handState.rank();
+    assertEquals(1, handState.getNumberOfEvaluations());
+    handState.addCard(CardSet.getBitIndex(Color.clubs, Ordinal.ace));
+    assertEquals(PokerHand.THREES, EvaluationHandler.getPokerHand(handState.rank()));
+    assertEquals(2, handState.getNumberOfEvaluations());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testSameCardTwice() {
+    final HandState handState = new HandState();
+    handState.addCard(CardSet.getBitIndex(Color.hearts, Ordinal.ace));
+    handState.addCard(CardSet.getBitIndex(Color.hearts, Ordinal.ace));
+  }
+
+  @Test
+  public void testShowdownDoesNotEvaluateAgain() {
+    final Dealer dealer = new Dealer(new SplittableRandomSource(4711));
+    final Player peter = dealer.registerPlayer(new RobotPlayer("Peter", PokerGame.TOTAL_MARKERS_PER_PLAYER));
+    final Player thomas = dealer.registerPlayer(new RobotPlayer("Thomas", PokerGame.TOTAL_MARKERS_PER_PLAYER));
+    dealer.play();
+    dealer.findTheWinner();
+    // Once for the private hand, the flop, the turn and the river
+    assertEquals(4, peter.getHandState().getNumberOfEvaluations());
+    assertEquals(4, thomas.getHandState().getNumberOfEvaluations());
+  }
+
+  @Test
+  public void testEveryHandIsEvaluatedOnceInTheWholeShowdown() {
+    final Dealer dealer = new Dealer(new SplittableRandomSource(4711));
+    final Player peter = dealer.registerPlayer(new RobotPlayer("Peter", PokerGame.TOTAL_MARKERS_PER_PLAYER));
+    final Player thomas = dealer.registerPlayer(new RobotPlayer("Thomas", PokerGame.TOTAL_MARKERS_PER_PLAYER));
+    final PotHandler potHandler = new PotHandler(dealer.getTableSeats());
+    potHandler.joinPot(peter, 100);
+    potHandler.joinPot(thomas, 100);
+    dealer.playPrivateHands();
+    // The common cards are dealt without ranking the hands, the showdown is the first to rank the river
+    dealer.drawFlop();
+    dealer.drawTurn();
+    dealer.drawRiver();
+    assertEquals(1, peter.getHandState().getNumberOfEvaluations());
+
+    final List<Player> winners = dealer.findTheWinner(null);
+    assertEquals(2, peter.getHandState().getNumberOfEvaluations());
+    assertEquals(2, thomas.getHandState().getNumberOfEvaluations());
+    final long commonCards = dealer.getCommonCards();
+    final Map<Player, Integer> payouts = potHandler.getPayouts(player -> player.rank(commonCards));
+    assertEquals(winners.size(), payouts.size());
+    assertTrue(payouts.containsKey(winners.get(0)));
+    assertEquals(2, peter.getHandState().getNumberOfEvaluations());
+    assertEquals(2, thomas.getHandState().getNumberOfEvaluations());
+  }
+}
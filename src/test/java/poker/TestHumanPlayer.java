@@ -3,6 +3,7 @@ package poker;
 import org.junit.After;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 
 import static org.mockito.Mockito.when;
 
@@ -85,7 +86,10 @@ public class TestHumanPlayer {
       .thenReturn("A")
 
       // Press O to continue
-      .thenReturn("O");
+      .thenReturn("O")
+
+      // The same action for as long as the game lasts
+      .thenAnswer(alternately("A"));
   }
 
   @Test
@@ -222,7 +226,10 @@ public class TestHumanPlayer {
       .thenReturn("F")
 
       // Press O to continue
-      .thenReturn("O");
+      .thenReturn("O")
+
+      // The same action for as long as the game lasts
+      .thenAnswer(alternately("F"));
   }
 
   @Test
@@ -459,7 +466,18 @@ public class TestHumanPlayer {
       .thenReturn("C")
 
       // Press O to continue
-      .thenReturn("O");
+      .thenReturn("O")
+
+      // The same action for as long as the game lasts
+      .thenAnswer(alternately("C"));
+  }
+
+  /*
+   * Answers the action and O to continue by turns, an answer that isn't allowed is asked for again
+   */
+  private static Answer<String> alternately(String action) {
+    final int[] numberOfAnswers = {0};
+    return invocation -> numberOfAnswers[0]++ % 2 == 0 ? action : "O";
   }
 
   @After
@@ -1,10 +1,18 @@
 package poker;
 
+import com.google.common.collect.Sets;
 import org.junit.After;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class TestPlayFullGame {
   private final PokerGame pokerGame = PokerGame.getInstance();
@@ -32,7 +40,8 @@ public class TestPlayFullGame {
     do {
       pokerGame.payBlinds(players, pokerGame.playersThatCanBet(players), blind);
       pokerGame.playRound(players);
-      blind = blind * 2;
+      // Capped like the game does, so a long game does not overflow the blind
+      blind = Math.min(blind * 2, players.size() * PokerGame.TOTAL_MARKERS_PER_PLAYER);
     } while (moreThanOnePlayerHasMarkers(players));
   }
 
@@ -47,10 +56,58 @@ public class TestPlayFullGame {
     do {
       pokerGame.payBlinds(players, pokerGame.playersThatCanBet(players), blind);
       pokerGame.playRound(players);
-      blind = blind * 2;
+      // Capped like the game does, so a long game does not overflow the blind
+      blind = Math.min(blind * 2, players.size() * PokerGame.TOTAL_MARKERS_PER_PLAYER);
     } while (moreThanOnePlayerHasMarkers(players));
   }
 
+  @Test
+  public void playHeadlessRobotTournament() {
+    final List<Player> winners = new ArrayList<>();
+    final int[] numberOfRounds = {0};
+    final GameListener gameListener = new GameListener() {
+      @Override
+      public void roundFinished(List<Player> players) {
+        numberOfRounds[0]++;
+      }
+
+      @Override
+      public void gameWon(Player player) {
+        winners.add(player);
+      }
+    };
+    final PrintStream out = System.out;
+    final ByteArrayOutputStream console = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(console));
+    final Player theWinner;
+    try {
+      theWinner = new PokerGame(gameListener, new SplittableRandomSource(4711)).playRobotTournament(PokerGame.MAX_NUMBER_OF_PLAYERS);
+    } finally {
+      System.setOut(out);
+    }
+    assertEquals("", console.toString());
+    assertEquals(1, winners.size());
+    assertEquals(theWinner, winners.get(0));
+    assertEquals(PokerGame.MAX_NUMBER_OF_PLAYERS * PokerGame.TOTAL_MARKERS_PER_PLAYER, theWinner.getNumberOfMarkers());
+    assertTrue(numberOfRounds[0] > 0);
+  }
+
+  @Test
+  public void playRobotTournamentWithEquityRobots() {
+    final Set<String> equityRobotsThatDecided = new HashSet<>();
+    final GameListener gameListener = new GameListener() {
+      @Override
+      public void actionDecided(Player player, Action action) {
+        if (player instanceof EquityRobotPlayer) {
+          equityRobotsThatDecided.add(player.getName());
+        }
+      }
+    };
+    final Player theWinner = new PokerGame(gameListener, new SplittableRandomSource(4711)).playRobotTournament(4, 2);
+    assertEquals(Sets.newHashSet("Thomas (equity)", "Jörn (equity)"), equityRobotsThatDecided);
+    assertEquals(4 * PokerGame.TOTAL_MARKERS_PER_PLAYER, theWinner.getNumberOfMarkers());
+  }
+
   private boolean moreThanOnePlayerHasMarkers(List<Player> players) {
     int i = 0;
     for (Player player : players) {
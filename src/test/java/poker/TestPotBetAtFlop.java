@@ -34,7 +34,7 @@ public class TestPotBetAtFlop extends TestBase {
     pokerGame.setBetManager(betManager);
     String decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 50]. Player Jörn Action :[CHECK 50]. ", decision);
     int potRaisePerPlayerBeforeFlop = 50;
     int potRaisePerPlayerTotalRound = potRaisePerPlayerBeforeFlop;
     assertMarkersForPlayers(players);
@@ -45,7 +45,7 @@ public class TestPotBetAtFlop extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[RAISE]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[RAISE 100]. Player Jörn Action :[CHECK 100]. ", decision);
     int potRaisePerPlayerFlop = 100;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaisePerPlayerFlop;
     assertMarkersForPlayers(players);
@@ -56,7 +56,7 @@ public class TestPotBetAtFlop extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 100]. Player Jörn Action :[CHECK 100]. ", decision);
     int potRaisePerPlayerTurn = 0;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaisePerPlayerTurn;
     assertMarkersForPlayers(players);
@@ -66,7 +66,7 @@ public class TestPotBetAtFlop extends TestBase {
     pokerGame.setRiverToBetManager(riverCard);
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
-    assertEquals("Player Thomas Action :[RAISE]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[RAISE 200]. Player Jörn Action :[CHECK 200]. ", decision);
     final int potRaiseRiver = 200;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaiseRiver;
     assertMarkersForPlayers(players);
@@ -80,12 +80,13 @@ public class TestPotBetAtFlop extends TestBase {
                  2 * PokerGame.TOTAL_MARKERS_PER_PLAYER,
                  player0.getNumberOfMarkers() + player1.getNumberOfMarkers());
 
+    // Queens and knights beats queens and nines
     final int calculatedPot = calculatePot(potRaisePerPlayerTotalRound, players);
-    assertEquals(createIncorrectNumberOfMarkersForWinnerMessage(potRaisePerPlayerTotalRound, calculatedPot, player0),
-                 player0NumberOfMarkersAfterRound + calculatedPot,
-                 player0.getNumberOfMarkers());
+    assertEquals(createIncorrectNumberOfMarkersForWinnerMessage(potRaisePerPlayerTotalRound, calculatedPot, player1),
+                 player1NumberOfMarkersAfterRound + calculatedPot,
+                 player1.getNumberOfMarkers());
 
-    assertEquals(player1NumberOfMarkersAfterRound, player1.getNumberOfMarkers());
+    assertEquals(player0NumberOfMarkersAfterRound, player0.getNumberOfMarkers());
     pokerGame.resetTurn(players);
   }
 
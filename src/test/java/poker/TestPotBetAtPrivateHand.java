@@ -38,7 +38,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.setBetManager(betManager);
     String decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[ALL_IN]. Player Jörn Action :[FOLD]. ", decision);
+    assertEquals("Player Thomas Action :[ALL_IN 2450]. Player Jörn Action :[FOLD]. ", decision);
     assertEquals(2525, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
 
     // No turn or river since only one player left
@@ -67,7 +67,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.setBetManager(betManager);
     String decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[ALL_IN]. Player Jörn Action :[ALL_IN]. ", decision);
+    assertEquals("Player Thomas Action :[ALL_IN 2450]. Player Jörn Action :[ALL_IN 2475]. ", decision);
     assertEquals(5000, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(0, player0.getNumberOfMarkers());
     assertEquals(0, player1.getNumberOfMarkers());
@@ -106,10 +106,11 @@ public class TestPotBetAtPrivateHand extends TestBase {
     assertEquals(0, player0.getNumberOfMarkers());
     assertEquals(0, player1.getNumberOfMarkers());
 
+    // Both have aces and twos with queen kicker, the pot is split
     pokerGame.getTheWinner(getPokerGame().getPotHandler(), players);
 
-    assertEquals(5000, player0.getNumberOfMarkers());
-    assertEquals(0, player1.getNumberOfMarkers());
+    assertEquals(2500, player0.getNumberOfMarkers());
+    assertEquals(2500, player1.getNumberOfMarkers());
 
     pokerGame.resetTurn(players);
   }
@@ -131,7 +132,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.setBetManager(betManager);
     String decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 50]. Player Jörn Action :[CHECK 50]. ", decision);
     assertEquals(100, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2450, player0.getNumberOfMarkers());
     assertEquals(2450, player1.getNumberOfMarkers());
@@ -142,7 +143,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 50]. Player Jörn Action :[CHECK 50]. ", decision);
     assertEquals(100, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2450, player0.getNumberOfMarkers());
     assertEquals(2450, player1.getNumberOfMarkers());
@@ -153,7 +154,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 50]. Player Jörn Action :[CHECK 50]. ", decision);
     assertEquals(100, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2450, player0.getNumberOfMarkers());
     assertEquals(2450, player1.getNumberOfMarkers());
@@ -164,7 +165,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 50]. Player Jörn Action :[CHECK 50]. ", decision);
     assertEquals(100, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2450, player0.getNumberOfMarkers());
     assertEquals(2450, player1.getNumberOfMarkers());
@@ -192,7 +193,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     BetManager betManager = new BetManager(players, 50, pokerGame.getPotHandler());
     pokerGame.setBetManager(betManager);
     String decision = pokerGame.decideBet(players);
-    assertEquals("Player Thomas Action :[RAISE]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[RAISE 100]. Player Jörn Action :[CHECK 100]. ", decision);
     assertEquals(200, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2400, player0.getNumberOfMarkers());
     assertEquals(2400, player1.getNumberOfMarkers());
@@ -202,7 +203,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.setFlopToBetManager(badFlop);
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 100]. Player Jörn Action :[CHECK 100]. ", decision);
     assertEquals(200, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2400, player0.getNumberOfMarkers());
     assertEquals(2400, player1.getNumberOfMarkers());
@@ -212,7 +213,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.setTurnToBetManager(turnCard);
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 100]. Player Jörn Action :[CHECK 100]. ", decision);
     assertEquals(200, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2400, player0.getNumberOfMarkers());
     assertEquals(2400, player1.getNumberOfMarkers());
@@ -222,15 +223,16 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.setRiverToBetManager(riverCard);
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 100]. Player Jörn Action :[CHECK 100]. ", decision);
     assertEquals(200, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
     assertEquals(2400, player0.getNumberOfMarkers());
     assertEquals(2400, player1.getNumberOfMarkers());
 
+    // Both have a pair of eights with queen, nine and five, the pot is split
     pokerGame.getTheWinner(getPokerGame().getPotHandler(), players);
 
-    assertEquals(2600, player0.getNumberOfMarkers());
-    assertEquals(2400, player1.getNumberOfMarkers());
+    assertEquals(2500, player0.getNumberOfMarkers());
+    assertEquals(2500, player1.getNumberOfMarkers());
 
     pokerGame.resetTurn(players);
   }
@@ -252,7 +254,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     BetManager betManager = new BetManager(players, 600, pokerGame.getPotHandler());
     pokerGame.setBetManager(betManager);
     String decision = pokerGame.decideBet(players);
-    assertEquals("Player Thomas Action :[RAISE]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[RAISE 1200]. Player Jörn Action :[CHECK 1200]. ", decision);
 
     int potRaisePerPlayerBeforeFlop = 1200;
     int potRaisePerPlayerTotalRound = potRaisePerPlayerBeforeFlop;
@@ -264,7 +266,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 1200]. Player Jörn Action :[CHECK 1200]. ", decision);
     int potRaisePerPlayerFlop = 0;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaisePerPlayerFlop;
     assertEquals(2400, getPokerGame().getPotHandler().getNumberOfMarkersInAllPots());
@@ -276,7 +278,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 1200]. Player Jörn Action :[CHECK 1200]. ", decision);
     int potRaisePerPlayerTurn = 0;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaisePerPlayerTurn;
     assertMarkersForPlayers(players);
@@ -287,7 +289,7 @@ public class TestPotBetAtPrivateHand extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 1200]. Player Jörn Action :[CHECK 1200]. ", decision);
     final int potRaiseRiver = 0;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaiseRiver;
     assertMarkersForPlayers(players);
@@ -302,8 +304,9 @@ public class TestPotBetAtPrivateHand extends TestBase {
         player0.getNumberOfMarkers() + player1.getNumberOfMarkers());
 
     final int calculatedPot = calculatePot(potRaisePerPlayerTotalRound, players);
-    assertEquals(3700, player0.getNumberOfMarkers());
-    assertEquals(1300, player1.getNumberOfMarkers());
+    // Both have a pair of eights with queen, nine and five, the pot is split
+    assertEquals(2500, player0.getNumberOfMarkers());
+    assertEquals(2500, player1.getNumberOfMarkers());
     pokerGame.resetTurn(players);
   }
 
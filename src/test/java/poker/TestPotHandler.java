@@ -2,6 +2,8 @@ package poker;
 
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
+
 import static junit.framework.TestCase.assertEquals;
 
 public class TestPotHandler {
@@ -77,14 +79,14 @@ public class TestPotHandler {
     potHandler.joinPot(ingemar, 125);
     potHandler.joinPot(peter, 450);
     potHandler.joinPot(thomas, 400);
-    assertEquals(4, potHandler.getPots().size());
+    // One pot for every amount paid, not for every bet
+    assertEquals(3, potHandler.getPots().size());
     assertEquals(550, potHandler.getPlayerPartInPots(peter));
     assertEquals(500, potHandler.getPlayerPartInPots(thomas));
     assertEquals(125, potHandler.getPlayerPartInPots(ingemar));
-    assertEquals(100 * 3, potHandler.getPots().get(0).getNumberOfMarkers());
-    assertEquals(25 * 3, potHandler.getPots().get(1).getNumberOfMarkers());
-    assertEquals((500 - 25 - 100) * 2, potHandler.getPots().get(2).getNumberOfMarkers());
-    assertEquals(50, potHandler.getPots().get(3).getNumberOfMarkers());
+    assertEquals(125 * 3, potHandler.getPots().get(0).getNumberOfMarkers());
+    assertEquals((500 - 125) * 2, potHandler.getPots().get(1).getNumberOfMarkers());
+    assertEquals(50, potHandler.getPots().get(2).getNumberOfMarkers());
   }
 
   @Test
@@ -101,16 +103,15 @@ public class TestPotHandler {
     potHandler.joinPot(peter, 450);
     potHandler.joinPot(thomas, 400);
     potHandler.joinPot(anders, 25);
-    assertEquals(5, potHandler.getPots().size());
+    assertEquals(4, potHandler.getPots().size());
     assertEquals(550, potHandler.getPlayerPartInPots(peter));
     assertEquals(500, potHandler.getPlayerPartInPots(thomas));
     assertEquals(125, potHandler.getPlayerPartInPots(ingemar));
     assertEquals(150, potHandler.getPlayerPartInPots(anders));
-    assertEquals(100 * 4, potHandler.getPots().get(0).getNumberOfMarkers());
-    assertEquals(25 * 4, potHandler.getPots().get(1).getNumberOfMarkers());
-    assertEquals(25 * 3, potHandler.getPots().get(2).getNumberOfMarkers());
-    assertEquals(350 + 350, potHandler.getPots().get(3).getNumberOfMarkers());
-    assertEquals(50, potHandler.getPots().get(4).getNumberOfMarkers());
+    assertEquals(125 * 4, potHandler.getPots().get(0).getNumberOfMarkers());
+    assertEquals(25 * 3, potHandler.getPots().get(1).getNumberOfMarkers());
+    assertEquals(350 + 350, potHandler.getPots().get(2).getNumberOfMarkers());
+    assertEquals(50, potHandler.getPots().get(3).getNumberOfMarkers());
   }
 
   @Test
@@ -128,16 +129,15 @@ public class TestPotHandler {
     potHandler.joinPot(thomas, 400);
     potHandler.joinPot(ingemar, 25);
     potHandler.joinPot(anders, 25);
-    assertEquals(5, potHandler.getPots().size());
+    assertEquals(4, potHandler.getPots().size());
     assertEquals(550, potHandler.getPlayerPartInPots(peter));
     assertEquals(500, potHandler.getPlayerPartInPots(thomas));
     assertEquals(125, potHandler.getPlayerPartInPots(ingemar));
     assertEquals(150, potHandler.getPlayerPartInPots(anders));
-    assertEquals(100 * 4, potHandler.getPots().get(0).getNumberOfMarkers());
-    assertEquals(25 * 4, potHandler.getPots().get(1).getNumberOfMarkers());
-    assertEquals(25 * 3, potHandler.getPots().get(2).getNumberOfMarkers());
-    assertEquals(350 + 350, potHandler.getPots().get(3).getNumberOfMarkers());
-    assertEquals(50, potHandler.getPots().get(4).getNumberOfMarkers());
+    assertEquals(125 * 4, potHandler.getPots().get(0).getNumberOfMarkers());
+    assertEquals(25 * 3, potHandler.getPots().get(1).getNumberOfMarkers());
+    assertEquals(350 + 350, potHandler.getPots().get(2).getNumberOfMarkers());
+    assertEquals(50, potHandler.getPots().get(3).getNumberOfMarkers());
     assertEquals(550, potHandler.getAmountToJoinPot());
     assertEquals(550, potHandler.getMaxMarkersForAnyPlayer());
   }
@@ -154,14 +154,50 @@ public class TestPotHandler {
     potHandler.joinPot(peter, 100);
     potHandler.joinPot(thomas, 100);
     potHandler.joinPot(ingemar, 100);
-    assertEquals(2, potHandler.getPots().size());
+    assertEquals(1, potHandler.getPots().size());
     assertEquals(200, potHandler.getPlayerPartInPots(peter));
     assertEquals(200, potHandler.getPlayerPartInPots(thomas));
     assertEquals(200, potHandler.getPlayerPartInPots(ingemar));
-    assertEquals(300, potHandler.getPots().get(0).getNumberOfMarkers());
-    assertEquals(300, potHandler.getPots().get(1).getNumberOfMarkers());
+    assertEquals(600, potHandler.getPots().get(0).getNumberOfMarkers());
     assertEquals(200, potHandler.getAmountToJoinPot());
     assertEquals(200, potHandler.getMaxMarkersForAnyPlayer());
 
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSummaryFollowsTheBets() {
+    PotHandler potHandler = new PotHandler();
+    Player peter = new RobotPlayer("Peter", 550);
+    Player thomas = new RobotPlayer("Thomas", 500);
+    final PotSummary summary = potHandler.getSummary();
+    potHandler.joinPot(peter, 100);
+    assertEquals(100, summary.getTotal());
+    assertEquals(100, summary.getAmountToCall(thomas));
+    potHandler.joinPot(thomas, 300);
+    assertEquals(400, summary.getTotal());
+    assertEquals(300, summary.getPlayerPart(thomas));
+    assertEquals(200, summary.getAmountToCall(peter));
+    assertEquals(0, summary.getAmountToCall(thomas));
+    potHandler.clear();
+    assertEquals(0, summary.getTotal());
+    assertEquals(0, summary.getPlayerPart(peter));
+  }
+
+  @Test
+  public void testOnePotIsBuiltWithItsMembers() {
+    PotHandler potHandler = new PotHandler();
+    Player peter = new RobotPlayer("Peter", 550);
+    Player thomas = new RobotPlayer("Thomas", 500);
+    Player ingemar = new RobotPlayer("Ingemar", 125);
+    assertEquals(0, potHandler.getPot(0).getNumberOfMarkers());
+    potHandler.joinPot(peter, 550);
+    potHandler.joinPot(thomas, 500);
+    potHandler.joinPot(ingemar, 125);
+    final Pot sidePot = potHandler.getPot(1);
+    assertEquals(Lists.newArrayList(peter, thomas), sidePot.getMembers());
+    assertEquals(375, sidePot.getMarkersForMember(thomas));
+    assertEquals(0, sidePot.getMarkersForMember(ingemar));
+    assertEquals(750, sidePot.getNumberOfMarkers());
+    assertEquals(potHandler.getPots().get(2).getMembers(), potHandler.getPot(2).getMembers());
+  }
+}
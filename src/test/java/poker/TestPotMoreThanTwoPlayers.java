@@ -36,7 +36,7 @@ public class TestPotMoreThanTwoPlayers extends TestBase {
     pokerGame.setBetManager(betManager);
     String decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[RAISE]. Player Jörn Action :[CHECK]. Player Anders Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[RAISE 100]. Player Jörn Action :[CHECK 100]. Player Anders Action :[CHECK 100]. ", decision);
     int potRaisePerPlayerBeforeFlop = 100;
     int potRaisePerPlayerTotalRound = potRaisePerPlayerBeforeFlop;
     assertMarkersForPlayers(players);
@@ -47,7 +47,7 @@ public class TestPotMoreThanTwoPlayers extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. Player Anders Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 100]. Player Jörn Action :[CHECK 100]. Player Anders Action :[CHECK 100]. ", decision);
     assertMarkersForPlayers(players);
 
     final List<Card> riverCard = Lists.newArrayList(new Card(Color.hearts, Ordinal.queen));
@@ -56,7 +56,7 @@ public class TestPotMoreThanTwoPlayers extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[CHECK]. Player Jörn Action :[CHECK]. Player Anders Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[CHECK 100]. Player Jörn Action :[CHECK 100]. Player Anders Action :[CHECK 100]. ", decision);
     int potRaisePerPlayerTurn = 0;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaisePerPlayerTurn;
     assertMarkersForPlayers(players);
@@ -67,7 +67,7 @@ public class TestPotMoreThanTwoPlayers extends TestBase {
     pokerGame.updateTurnForBetManager();
     decision = pokerGame.decideBet(players);
 
-    assertEquals("Player Thomas Action :[RAISE]. Player Jörn Action :[CHECK]. Player Anders Action :[CHECK]. ", decision);
+    assertEquals("Player Thomas Action :[RAISE 200]. Player Jörn Action :[CHECK 200]. Player Anders Action :[CHECK 200]. ", decision);
     final int potRaiseRiver = 200;
     potRaisePerPlayerTotalRound = potRaisePerPlayerTotalRound + potRaiseRiver;
     assertMarkersForPlayers(players);
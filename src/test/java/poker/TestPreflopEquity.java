@@ -0,0 +1,61 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPreflopEquity {
+
+  @Test
+  public void testStartingHandClasses() {
+    final int[] numberOfHands = new int[PreflopEquity.NUMBER_OF_CLASSES];
+    for (int bitIndex = 0; bitIndex < Long.SIZE; bitIndex++) {
+      for (int otherBitIndex = bitIndex + 1; otherBitIndex < Long.SIZE; otherBitIndex++) {
+        final long privateCards = 1L << bitIndex | 1L << otherBitIndex;
+        if ((privateCards & CardSet.ALL_CARDS) == privateCards) {
+          numberOfHands[PreflopEquity.getStartingHandClass(privateCards)]++;
+        }
+      }
+    }
+    for (int startingHandClass = 0; startingHandClass < PreflopEquity.NUMBER_OF_CLASSES; startingHandClass++) {
+      final long representativeHand = PreflopEquityGenerator.getRepresentativeHand(startingHandClass);
+      assertEquals(startingHandClass, PreflopEquity.getStartingHandClass(representativeHand));
+      final boolean isPair = startingHandClass % 14 == 0;
+      final boolean isSuited = CardSet.getColorMask(representativeHand, Color.spades) == 0;
+      assertEquals(isPair ? 6 : isSuited ? 4 : 12, numberOfHands[startingHandClass]);
+    }
+  }
+
+  @Test
+  public void testEquity() {
+    final long pairOfAces = hand(new Card(Color.clubs, Ordinal.ace), new Card(Color.diamonds, Ordinal.ace));
+    final long sevenAndTwo = hand(new Card(Color.clubs, Ordinal.seven), new Card(Color.diamonds, Ordinal.two));
+    final long aceAndKingSuited = hand(new Card(Color.spades, Ordinal.ace), new Card(Color.spades, Ordinal.king));
+    final long aceAndKing = hand(new Card(Color.spades, Ordinal.ace), new Card(Color.hearts, Ordinal.king));
+    assertEquals(0.85, PreflopEquity.getWinProbability(pairOfAces, 1), 0.01);
+    assertEquals(0.35, PreflopEquity.getEquity(sevenAndTwo, 1), 0.01);
+    assertTrue(PreflopEquity.getEquity(aceAndKingSuited, 5) > PreflopEquity.getEquity(aceAndKing, 5));
+    for (int numberOfOpponents = 1; numberOfOpponents <= PreflopEquity.MAX_NUMBER_OF_OPPONENTS; numberOfOpponents++) {
+      assertEquals(1, PreflopEquity.getWinProbability(sevenAndTwo, numberOfOpponents)
+                      + PreflopEquity.getTieProbability(sevenAndTwo, numberOfOpponents)
+                      + PreflopEquity.getLossProbability(sevenAndTwo, numberOfOpponents), 1e-6);
+      if (numberOfOpponents > 1) {
+        assertTrue(PreflopEquity.getEquity(pairOfAces, numberOfOpponents) < PreflopEquity.getEquity(pairOfAces, numberOfOpponents - 1));
+      }
+    }
+  }
+
+  @Test
+  public void testGeneratorDoesNotDependOnNumberOfThreads() {
+    final char[][] oneThread = PreflopEquityGenerator.generate(100, 1, new XoroshiroRandomSource(4711));
+    final char[][] threeThreads = PreflopEquityGenerator.generate(100, 3, new XoroshiroRandomSource(4711));
+    assertArrayEquals(oneThread[0], threeThreads[0]);
+    assertArrayEquals(oneThread[1], threeThreads[1]);
+  }
+
+  private static long hand(Card card, Card otherCard) {
+    return CardSet.getBit(card) | CardSet.getBit(otherCard);
+  }
+}
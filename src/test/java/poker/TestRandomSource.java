@@ -0,0 +1,66 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestRandomSource {
+
+  private static final int NUMBER_OF_DRAWS = 100_000;
+
+  @Test
+  public void testSameSeedGivesSameSequence() {
+    assertSameSequence(new SplittableRandomSource(17), new SplittableRandomSource(17));
+    assertSameSequence(new XoroshiroRandomSource(17), new XoroshiroRandomSource(17));
+  }
+
+  @Test
+  public void testSplitSourcesDiffer() {
+    assertSplitDiffers(new SplittableRandomSource(17));
+    assertSplitDiffers(new XoroshiroRandomSource(17));
+  }
+
+  @Test
+  public void testUniformDistribution() {
+    assertUniform(new SplittableRandomSource(17));
+    assertUniform(new XoroshiroRandomSource(17));
+    assertUniform(new ThreadLocalRandomSource());
+  }
+
+  @Test
+  public void testSameSeedGivesSameDeal() {
+    final Deck deck = new Deck(new Shuffle(new XoroshiroRandomSource(4711)));
+    final Deck sameDeck = new Deck(new Shuffle(new XoroshiroRandomSource(4711)));
+    for (int i = 0; i < 52; i++) {
+      assertEquals(deck.dealCard(), sameDeck.dealCard());
+    }
+  }
+
+  private void assertSameSequence(RandomSource first, RandomSource second) {
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(first.nextInt(52), second.nextInt(52));
+    }
+  }
+
+  private void assertSplitDiffers(RandomSource randomSource) {
+    final RandomSource split = randomSource.split();
+    boolean isDifferent = false;
+    for (int i = 0; i < 100 && !isDifferent; i++) {
+      isDifferent = randomSource.nextInt(Integer.MAX_VALUE) != split.nextInt(Integer.MAX_VALUE);
+    }
+    assertTrue(isDifferent);
+  }
+
+  private void assertUniform(RandomSource randomSource) {
+    final int[] count = new int[52];
+    for (int i = 0; i < NUMBER_OF_DRAWS; i++) {
+      count[randomSource.nextInt(count.length)]++;
+    }
+    final int expected = NUMBER_OF_DRAWS / count.length;
+    for (int numberOfDraws : count) {
+      assertFalse("Count " + numberOfDraws + " expected about " + expected, Math.abs(numberOfDraws - expected) > expected / 5);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package poker;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestShowdown {
+
+  @Test
+  public void testRanksMatchEvaluator() {
+    final Deck deck = new Deck(new Shuffle(new SplittableRandomSource(4711)));
+    final long[] privateCards = new long[10];
+    final int[] ranks = new int[privateCards.length];
+    for (int hand = 0; hand < 10000; hand++) {
+      deck.reset();
+      for (int player = 0; player < privateCards.length; player++) {
+        privateCards[player] = 1L << deck.dealBitIndex() | 1L << deck.dealBitIndex();
+      }
+      long commonCards = CardSet.NO_CARDS;
+      for (int card = 0; card < 5; card++) {
+        commonCards |= 1L << deck.dealBitIndex();
+      }
+      int highScore = Showdown.FOLDED;
+      Showdown.rank(commonCards, privateCards, privateCards.length, ranks);
+      for (int player = 0; player < privateCards.length; player++) {
+        assertEquals(HandEvaluator.evaluate(privateCards[player] | commonCards), ranks[player]);
+        highScore = Math.max(highScore, ranks[player]);
+      }
+      assertEquals(highScore, Showdown.rank(commonCards, privateCards, privateCards.length, ranks));
+    }
+  }
+
+  @Test
+  public void testSplitPotAndFoldedPlayer() {
+    final long commonCards = getCards(new Card(Color.hearts, Ordinal.ace), new Card(Color.hearts, Ordinal.king),
+                                      new Card(Color.clubs, Ordinal.queen), new Card(Color.spades, Ordinal.knight),
+                                      new Card(Color.diamonds, Ordinal.two));
+    final long[] privateCards = {
+        getCards(new Card(Color.clubs, Ordinal.ten), new Card(Color.clubs, Ordinal.three)),
+        getCards(new Card(Color.hearts, Ordinal.queen), new Card(Color.spades, Ordinal.queen)),
+        getCards(new Card(Color.diamonds, Ordinal.ten), new Card(Color.diamonds, Ordinal.four)),
+        CardSet.NO_CARDS};
+    // The first and the third player have a straight to ace, the second player has threes
+    assertArrayEquals(new int[] {0, 2}, Showdown.findWinners(commonCards, privateCards));
+
+    // The players with the straights fold
+    privateCards[0] = CardSet.NO_CARDS;
+    privateCards[2] = CardSet.NO_CARDS;
+    assertArrayEquals(new int[] {1}, Showdown.findWinners(commonCards, privateCards));
+
+    privateCards[1] = CardSet.NO_CARDS;
+    assertEquals(0, Showdown.findWinners(commonCards, privateCards).length);
+  }
+
+  private static long getCards(Card... cards) {
+    return CardSet.toLong(Arrays.asList(cards));
+  }
+}
@@ -0,0 +1,91 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestSidePots {
+
+  @Test
+  public void testThreePlayersTwoSplits() {
+    final SidePots sidePots = new SidePots();
+    sidePots.add(0, 800);
+    sidePots.add(1, 300);
+    sidePots.add(2, 100);
+    assertArrayEquals(new int[] {3 * 100, 2 * (300 - 100), 800 - 300}, sidePots.getPotSizes());
+    assertEquals(1200, sidePots.getTotal());
+    assertEquals(800, sidePots.getHighestContribution());
+  }
+
+  @Test
+  public void testFourAllInsRecursiveSplit() {
+    final SidePots sidePots = new SidePots();
+    sidePots.add(0, 100);
+    sidePots.add(1, 100);
+    sidePots.add(2, 100);
+    sidePots.add(3, 125);
+    sidePots.add(0, 450);
+    sidePots.add(1, 400);
+    sidePots.add(2, 25);
+    sidePots.add(3, 25);
+    assertEquals(550, sidePots.getContribution(0));
+    assertEquals(500, sidePots.getContribution(1));
+    assertEquals(125, sidePots.getContribution(2));
+    assertEquals(150, sidePots.getContribution(3));
+    // The pot handler splits the main pot in 100 and 25 when the bets are made, the members are the same in both
+    assertArrayEquals(new int[] {100 * 4 + 25 * 4, 25 * 3, 350 + 350, 50}, sidePots.getPotSizes());
+    assertEquals(550, sidePots.getHighestContribution());
+  }
+
+  @Test
+  public void testShortAllInOnlyWinsWhatOthersCouldMatch() {
+    final SidePots sidePots = new SidePots();
+    sidePots.add(0, 550);
+    sidePots.add(1, 500);
+    sidePots.add(2, 125);
+    sidePots.add(3, 150);
+    final int[] payouts = new int[4];
+    sidePots.settle(new int[] {1, 2, 4, 3}, payouts);
+    assertArrayEquals(new int[] {50, 700, 500, 75}, payouts);
+  }
+
+  @Test
+  public void testSplitPotAndOddMarkers() {
+    final SidePots sidePots = new SidePots();
+    sidePots.add(0, 101);
+    sidePots.add(1, 101);
+    sidePots.add(2, 101);
+    final int[] payouts = new int[3];
+    sidePots.settle(new int[] {Showdown.FOLDED, 7, 7}, payouts);
+    assertArrayEquals(new int[] {0, 152, 151}, payouts);
+  }
+
+  @Test
+  public void testPotOnlyFoldedPlayersPaidIntoIsPaidBack() {
+    final SidePots sidePots = new SidePots();
+    sidePots.add(0, 100);
+    sidePots.add(1, 300);
+    final int[] payouts = new int[2];
+    sidePots.settle(new int[] {5, Showdown.FOLDED}, payouts);
+    assertArrayEquals(new int[] {200, 200}, payouts);
+
+    sidePots.clear();
+    assertEquals(0, sidePots.getTotal());
+    assertEquals(0, sidePots.getPotSizes().length);
+  }
+
+  @Test
+  public void testLayoutFollowsTheBets() {
+    final SidePots sidePots = new SidePots();
+    sidePots.add(0, 300);
+    sidePots.add(1, 100);
+    assertEquals(2, sidePots.getNumberOfPots());
+    assertEquals(100, sidePots.getMarkersPerMember(0));
+    assertEquals(false, sidePots.isMember(1, 1));
+    sidePots.add(1, 200);
+    assertEquals(1, sidePots.getNumberOfPots());
+    assertEquals(600, sidePots.getPotSize(0));
+    assertEquals(true, sidePots.isMember(0, 1));
+  }
+}
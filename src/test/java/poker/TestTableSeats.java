@@ -0,0 +1,66 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestTableSeats {
+
+  @Test
+  public void testPlayersKeepTheirSeats() {
+    final TableSeats tableSeats = new TableSeats();
+    final Player peter = new RobotPlayer("Peter", 500);
+    final Player thomas = new RobotPlayer("Thomas", 500);
+    assertFalse(tableSeats.isSeated(peter));
+    assertEquals(0, tableSeats.seat(peter));
+    assertEquals(1, tableSeats.seat(thomas));
+    assertEquals(0, tableSeats.seat(peter));
+    assertEquals(2, tableSeats.getNumberOfSeats());
+    assertSame(thomas, tableSeats.getPlayer(tableSeats.getSeat(thomas)));
+
+    tableSeats.clear();
+    assertFalse(tableSeats.isSeated(thomas));
+    assertEquals(TableSeats.NO_SEAT, tableSeats.getSeat(thomas));
+    assertEquals(0, tableSeats.seat(thomas));
+  }
+
+  @Test
+  public void testMorePlayersThanATableIsMadeFor() {
+    final TableSeats tableSeats = new TableSeats();
+    for (int i = 0; i < 2 * PokerGame.MAX_NUMBER_OF_PLAYERS; i++) {
+      assertEquals(i, tableSeats.seat(new RobotPlayer("Player " + i, 500)));
+    }
+    assertTrue(tableSeats.isSeated(tableSeats.getPlayer(2 * PokerGame.MAX_NUMBER_OF_PLAYERS - 1)));
+  }
+
+  @Test
+  public void testPotHandlerUsesTheSeatsOfTheTable() {
+    final TableSeats tableSeats = new TableSeats();
+    final Player peter = new RobotPlayer("Peter", 500);
+    final Player thomas = new RobotPlayer("Thomas", 500);
+    tableSeats.seat(thomas);
+    tableSeats.seat(peter);
+    final PotHandler potHandler = new PotHandler(tableSeats);
+    potHandler.joinPot(peter, 200);
+    potHandler.joinPot(thomas, 100);
+    assertEquals(200, potHandler.getPlayerPartInPots(peter));
+    assertEquals(100, potHandler.getPlayerPartInPots(thomas));
+    assertEquals(2, tableSeats.getNumberOfSeats());
+  }
+
+  @Test
+  public void testPlayerKeepsItsSeatAtAnotherTable() {
+    final Dealer dealer = new Dealer(new SplittableRandomSource(4711));
+    final Player peter = dealer.registerPlayer(new RobotPlayer("Peter", 500));
+    final Player thomas = dealer.registerPlayer(new RobotPlayer("Thomas", 500));
+    final PotHandler potHandler = new PotHandler();
+    potHandler.joinPot(thomas, 100);
+    potHandler.joinPot(peter, 100);
+    assertEquals(0, dealer.getTableSeats().getSeat(peter));
+    assertEquals(1, dealer.getTableSeats().getSeat(thomas));
+    assertEquals(100, potHandler.getPlayerPartInPots(peter));
+  }
+}
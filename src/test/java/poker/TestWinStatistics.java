@@ -0,0 +1,46 @@
+package poker;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestWinStatistics {
+
+  @Test
+  public void testAddWins() {
+    final WinStatistics winStatistics = new WinStatistics();
+    assertEquals(0, winStatistics.addPlayer("Peter"));
+    assertEquals(1, winStatistics.addPlayer("Thomas"));
+    assertEquals(0, winStatistics.addPlayer("Peter"));
+    winStatistics.addWin("Peter", PokerHand.PAIR);
+    winStatistics.addWin("Peter", PokerHand.PAIR);
+    winStatistics.addWin("Peter", PokerHand.FLUSH);
+    winStatistics.addWin("Thomas", PokerHand.PAIR);
+    assertEquals(3, winStatistics.getNumberOfWins("Peter"));
+    assertEquals(2, winStatistics.getNumberOfWins("Peter", PokerHand.PAIR));
+    assertEquals(1, winStatistics.getNumberOfWins("Thomas"));
+    assertEquals(3, winStatistics.getNumberOfWins(PokerHand.PAIR));
+    winStatistics.clear();
+    assertEquals(0, winStatistics.getNumberOfWins("Peter"));
+  }
+
+  @Test
+  public void testSnapshotAndMerge() {
+    final WinStatistics total = new WinStatistics();
+    total.addPlayer("Peter");
+    total.addWin("Peter", PokerHand.THREES);
+    final WinStatistics snapshot = total.snapshot();
+    total.addWin("Peter", PokerHand.THREES);
+    assertEquals(1, snapshot.getNumberOfWins("Peter"));
+
+    final WinStatistics worker = new WinStatistics();
+    worker.addPlayer("Thomas");
+    worker.addPlayer("Peter");
+    worker.addWin("Thomas", PokerHand.FOURS);
+    worker.addWin("Peter", PokerHand.THREES);
+    total.merge(worker);
+    assertEquals(3, total.getNumberOfWins("Peter", PokerHand.THREES));
+    assertEquals(1, total.getNumberOfWins("Thomas", PokerHand.FOURS));
+    assertEquals(2, total.getNumberOfPlayers());
+  }
+}